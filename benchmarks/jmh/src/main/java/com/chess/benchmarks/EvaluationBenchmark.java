@@ -0,0 +1,74 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.BoardEvaluator;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// StandardBoardEvaluator over the corpus; one operation is one evaluated position
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvaluationBenchmark {
+
+  private final BoardEvaluator evaluator = new StandardBoardEvaluator();
+  private Board[] boards;
+  private SearchBoard[] searchBoards;
+
+  @Setup
+  public void setUp() {
+    this.boards = Positions.createCorpus();
+    this.searchBoards = new SearchBoard[this.boards.length];
+    for (int i = 0; i < this.boards.length; i++) {
+      this.searchBoards[i] = new SearchBoard(this.boards[i]);
+    }
+  }
+
+  // Board memoizes its move lists, so fresh copies keep every call paying for move generation
+  @Benchmark
+  @OperationsPerInvocation(10)
+  public void evaluateBoard(final Blackhole blackhole) {
+    for (final Board board : this.boards) {
+      blackhole.consume(this.evaluator.evaluate(copyOf(board), 0));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(10)
+  public void evaluateSearchBoard(final Blackhole blackhole) {
+    for (final SearchBoard board : this.searchBoards) {
+      blackhole.consume(this.evaluator.evaluate(board, 0));
+    }
+  }
+
+  private static Board copyOf(final Board board) {
+    final Board.Builder builder = new Board.Builder();
+    for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+      if (board.getPiece(i) != null) {
+        builder.setPiece(board.getPiece(i));
+      }
+    }
+    builder.setMoveMaker(board.currentPlayer().getAlliance());
+    builder.setCastlingRights(board.getCastlingRights());
+    builder.setEnPassantPawn(board.getEnPassantPawn());
+    return builder.build();
+  }
+}
@@ -0,0 +1,47 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Board construction through Move.execute, cycling through every legal move of the corpus
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveExecuteBenchmark {
+
+  private Move[] moves;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    final List<Move> allMoves = new ArrayList<>();
+    for (final Board board : Positions.createCorpus()) {
+      allMoves.addAll(board.currentPlayer().getLegalMoves());
+    }
+    this.moves = allMoves.toArray(new Move[0]);
+  }
+
+  @Benchmark
+  public Board execute() {
+    final Move move = this.moves[this.next];
+    this.next = this.next + 1 == this.moves.length ? 0 : this.next + 1;
+    return move.execute();
+  }
+}
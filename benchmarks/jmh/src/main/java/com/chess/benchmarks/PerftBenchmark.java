@@ -0,0 +1,107 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.Perft;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+Move generation throughput: perft through Board and Player.makeMove on standard positions.
+The "nodes" line of the report is nodes per second; the score itself is perft runs per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerftBenchmark {
+
+  @Param({"start", "kiwipete", "rookEndgame", "pawnEndgame"})
+  public String position;
+
+  private Board board;
+  private int depth;
+  private ForkJoinPool pool;
+  private Perft.PerftTable table;
+
+  @Setup
+  public void setUp() {
+    this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    this.table = new Perft.PerftTable(64);
+    switch (this.position) {
+      case "start":
+        this.board = Board.createStandardBoard();
+        this.depth = 4;
+        break;
+      case "kiwipete":
+        this.board =
+            FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        this.depth = 3;
+        break;
+      case "rookEndgame":
+        this.board = FenUtilities.createGameFromFEN("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+        this.depth = 5;
+        break;
+      case "pawnEndgame":
+        this.board = FenUtilities.createGameFromFEN("8/5pk1/6p1/8/3P4/4K3/5PP1/8 w - - 0 1");
+        this.depth = 5;
+        break;
+      default:
+        throw new RuntimeException("Unknown position " + this.position);
+    }
+  }
+
+  // Each run starts cold, as a fresh table would, without paying for the allocation
+  @Setup(Level.Invocation)
+  public void clearTable() {
+    this.table.clear();
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.pool.shutdown();
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Nodes {
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.nodes = 0;
+    }
+  }
+
+  @Benchmark
+  public long perft(final Nodes counter) {
+    final long nodes = Perft.perft(this.board, this.depth);
+    counter.nodes += nodes;
+    return nodes;
+  }
+
+  @Benchmark
+  public long hashedParallelPerft(final Nodes counter) {
+    final long nodes = Perft.perft(this.board, this.depth, this.pool, this.table);
+    counter.nodes += nodes;
+    return nodes;
+  }
+}
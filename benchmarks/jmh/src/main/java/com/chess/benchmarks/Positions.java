@@ -0,0 +1,32 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+
+// Fixed corpus shared by the benchmarks: openings, tactical middlegames and endgames
+final class Positions {
+  static final String[] CORPUS = {
+    "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+    "rnbqkb1r/pp1p1ppp/4pn2/2p5/2PP4/2N5/PP2PPPP/R1BQKBNR w KQkq - 0 4",
+    "r1bqkb1r/pppp1ppp/2n2n2/4p2Q/2B1P3/8/PPPP1PPP/RNB1K1NR w KQkq - 4 4",
+    "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+    "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+    "2rq1rk1/pp1bppbp/2np1np1/8/3NP3/1BN1BP2/PPPQ2PP/2KR3R b - - 0 11",
+    "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+    "8/5pk1/6p1/8/3P4/4K3/5PP1/8 w - - 0 1",
+    "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1",
+    "8/8/4k3/8/2K5/3Q4/8/8 w - - 0 1"
+  };
+
+  private Positions() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  static Board[] createCorpus() {
+    final Board[] boards = new Board[CORPUS.length];
+    for (int i = 0; i < CORPUS.length; i++) {
+      boards[i] = FenUtilities.createGameFromFEN(CORPUS[i]);
+    }
+    return boards;
+  }
+}
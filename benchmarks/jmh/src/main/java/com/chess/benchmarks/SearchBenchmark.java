@@ -0,0 +1,63 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.ai.Minimax;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Minimax.execute at a fixed depth; the "nodes" line is the node total per measured iteration
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+  @Param({"0", "3", "6"})
+  public int position;
+
+  @Param({"3"})
+  public int depth;
+
+  private Board board;
+  private Minimax minimax;
+
+  @Setup
+  public void setUp() {
+    this.board = Positions.createCorpus()[this.position];
+    this.minimax = new Minimax(this.depth);
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Nodes {
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.nodes = 0;
+    }
+  }
+
+  @Benchmark
+  public Move minimax(final Nodes counter) {
+    final Move move = this.minimax.execute(this.board);
+    counter.nodes += this.minimax.getSearchStats().getNodes();
+    return move;
+  }
+}
@@ -0,0 +1,147 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+/*
+Bit i of every bitboard is tile coordinate i, so bit 0 is a8 and bit 63 is h1,
+matching the indexing used by BoardUtils and Board.getTile
+ */
+public class BitBoardUtils {
+  public static final int NUM_BITBOARDS = PieceType.values().length * Alliance.values().length;
+  public static final long EMPTY = 0L;
+
+  public static final long[] KNIGHT_ATTACKS =
+      initLeaperAttacks(
+          new int[][] {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}});
+  public static final long[] KING_ATTACKS =
+      initLeaperAttacks(
+          new int[][] {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}});
+  // Squares a pawn of the given alliance attacks, indexed [alliance.ordinal()][coordinate]
+  public static final long[][] PAWN_ATTACKS = {
+    initLeaperAttacks(new int[][] {{-1, -1}, {-1, 1}}),
+    initLeaperAttacks(new int[][] {{1, -1}, {1, 1}})
+  };
+
+  private BitBoardUtils() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  // One bitboard per (PieceType, Alliance); white and black of a type sit next to each other
+  public static int bitBoardIndex(final PieceType pieceType, final Alliance alliance) {
+    return pieceType.ordinal() * 2 + alliance.ordinal();
+  }
+
+  public static long squareMask(final int tileCoordinate) {
+    return 1L << tileCoordinate;
+  }
+
+  public static boolean isSet(final long bitBoard, final int tileCoordinate) {
+    return (bitBoard & squareMask(tileCoordinate)) != 0;
+  }
+
+  // Coordinate of the lowest set bit; callers clear it with bitBoard &= bitBoard - 1
+  public static int firstSquare(final long bitBoard) {
+    return Long.numberOfTrailingZeros(bitBoard);
+  }
+
+  /*
+  Is the coordinate attacked by any piece of the attacking alliance? Probes outward from the
+  square: a pawn/knight/king of the attacker stands on one of the squares that piece type would
+  attack from here, and a slider sees the square along a ray
+   */
+  public static boolean isSquareAttacked(
+      final long[] pieceBitBoards,
+      final long occupancy,
+      final int tileCoordinate,
+      final Alliance attacker) {
+    final long pawns = pieceBitBoards[bitBoardIndex(PieceType.PAWN, attacker)];
+    final long knights = pieceBitBoards[bitBoardIndex(PieceType.KNIGHT, attacker)];
+    final long king = pieceBitBoards[bitBoardIndex(PieceType.KING, attacker)];
+    final long queens = pieceBitBoards[bitBoardIndex(PieceType.QUEEN, attacker)];
+    final long diagonalSliders = pieceBitBoards[bitBoardIndex(PieceType.BISHOP, attacker)] | queens;
+    final long straightSliders = pieceBitBoards[bitBoardIndex(PieceType.ROOK, attacker)] | queens;
+    // a pawn of the attacker hits this square exactly when a defending pawn here would hit it
+    return (PAWN_ATTACKS[attacker.ordinal() ^ 1][tileCoordinate] & pawns) != 0
+        || (KNIGHT_ATTACKS[tileCoordinate] & knights) != 0
+        || (KING_ATTACKS[tileCoordinate] & king) != 0
+        || (MagicBitBoards.bishopAttacks(tileCoordinate, occupancy) & diagonalSliders) != 0
+        || (MagicBitBoards.rookAttacks(tileCoordinate, occupancy) & straightSliders) != 0;
+  }
+
+  // Bare kings, or a lone knight or bishop beside them, can never mate
+  public static boolean hasInsufficientMaterial(final long[] pieceBitBoards) {
+    int minorPieces = 0;
+    for (final Alliance alliance : Alliance.values()) {
+      if ((pieceBitBoards[bitBoardIndex(PieceType.PAWN, alliance)]
+              | pieceBitBoards[bitBoardIndex(PieceType.ROOK, alliance)]
+              | pieceBitBoards[bitBoardIndex(PieceType.QUEEN, alliance)])
+          != 0) {
+        return false;
+      }
+      minorPieces +=
+          Long.bitCount(
+              pieceBitBoards[bitBoardIndex(PieceType.KNIGHT, alliance)]
+                  | pieceBitBoards[bitBoardIndex(PieceType.BISHOP, alliance)]);
+    }
+    return minorPieces <= 1;
+  }
+
+  // Pieces of either alliance attacking the coordinate, with sliders blocked by the occupancy given
+  public static long attackersTo(
+      final long[] pieceBitBoards, final long occupancy, final int tileCoordinate) {
+    final long queens =
+        pieceBitBoards[bitBoardIndex(PieceType.QUEEN, Alliance.WHITE)]
+            | pieceBitBoards[bitBoardIndex(PieceType.QUEEN, Alliance.BLACK)];
+    final long diagonalSliders =
+        pieceBitBoards[bitBoardIndex(PieceType.BISHOP, Alliance.WHITE)]
+            | pieceBitBoards[bitBoardIndex(PieceType.BISHOP, Alliance.BLACK)]
+            | queens;
+    final long straightSliders =
+        pieceBitBoards[bitBoardIndex(PieceType.ROOK, Alliance.WHITE)]
+            | pieceBitBoards[bitBoardIndex(PieceType.ROOK, Alliance.BLACK)]
+            | queens;
+    final long knights =
+        pieceBitBoards[bitBoardIndex(PieceType.KNIGHT, Alliance.WHITE)]
+            | pieceBitBoards[bitBoardIndex(PieceType.KNIGHT, Alliance.BLACK)];
+    final long kings =
+        pieceBitBoards[bitBoardIndex(PieceType.KING, Alliance.WHITE)]
+            | pieceBitBoards[bitBoardIndex(PieceType.KING, Alliance.BLACK)];
+    return (PAWN_ATTACKS[Alliance.BLACK.ordinal()][tileCoordinate]
+            & pieceBitBoards[bitBoardIndex(PieceType.PAWN, Alliance.WHITE)])
+        | (PAWN_ATTACKS[Alliance.WHITE.ordinal()][tileCoordinate]
+            & pieceBitBoards[bitBoardIndex(PieceType.PAWN, Alliance.BLACK)])
+        | (KNIGHT_ATTACKS[tileCoordinate] & knights)
+        | (KING_ATTACKS[tileCoordinate] & kings)
+        | (MagicBitBoards.bishopAttacks(tileCoordinate, occupancy) & diagonalSliders)
+        | (MagicBitBoards.rookAttacks(tileCoordinate, occupancy) & straightSliders);
+  }
+
+  private static long[] initLeaperAttacks(final int[][] offsets) {
+    final long[] attacks = new long[BoardUtils.NUM_TILES];
+    for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+      final int row = i / BoardUtils.NUM_TILES_PER_ROW;
+      final int column = i % BoardUtils.NUM_TILES_PER_ROW;
+      for (final int[] offset : offsets) {
+        final int targetRow = row + offset[0];
+        final int targetColumn = column + offset[1];
+        if (targetRow >= 0
+            && targetRow < BoardUtils.NUM_TILES_PER_ROW
+            && targetColumn >= 0
+            && targetColumn < BoardUtils.NUM_TILES_PER_ROW) {
+          attacks[i] |= squareMask(targetRow * BoardUtils.NUM_TILES_PER_ROW + targetColumn);
+        }
+      }
+    }
+    return attacks;
+  }
+
+  public static String toString(final long bitBoard) {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+      sb.append(isSet(bitBoard, i) ? " 1" : " .");
+      if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) sb.append("\n");
+    }
+    return sb.toString();
+  }
+}
@@ -3,15 +3,20 @@ package com.chess.engine.board;
 import com.chess.engine.Alliance;
 import com.chess.engine.pieces.*;
 import com.chess.engine.player.BlackPlayer;
+import com.chess.engine.player.GameStatus;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.WhitePlayer;
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 import java.util.*;
 
 public class Board {
-  private final List<Tile> gameBoard;
+  // Mailbox lookup by coordinate, used to hand out the Piece behind a set bit
+  private final Piece[] boardPieces;
+  private final long[] pieceBitBoards;
+  private final long whiteOccupancy;
+  private final long blackOccupancy;
+
   private final Collection<Piece> whitePieces;
   private final Collection<Piece> blackPieces;
 
@@ -21,18 +26,49 @@ public class Board {
   private final Player currentPlayer;
 
   private final Pawn enPassantPawn;
+  private final int castlingRights;
+  private final long zobristKey;
+  private final BoardScore score;
+
+  // Generated on first request only; leaves and rejected transitions often never ask
+  private volatile Collection<Move> whiteStandardLegalMoves;
+  private volatile Collection<Move> blackStandardLegalMoves;
+  private volatile GameStatus gameStatus;
 
   private Board(final Builder builder) {
-    this.gameBoard = createGameBoard(builder);
-    this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-    this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
+    this.boardPieces = new Piece[BoardUtils.NUM_TILES];
+    this.pieceBitBoards = new long[BitBoardUtils.NUM_BITBOARDS];
+    long white = BitBoardUtils.EMPTY;
+    long black = BitBoardUtils.EMPTY;
+    for (final Piece piece : builder.boardState) {
+      if (piece == null) {
+        continue;
+      }
+      final int position = piece.getPiecePosition();
+      final long mask = BitBoardUtils.squareMask(position);
+      this.boardPieces[position] = piece;
+      this.pieceBitBoards[
+              BitBoardUtils.bitBoardIndex(piece.getPieceType(), piece.getPieceAlliance())] |=
+          mask;
+      if (piece.getPieceAlliance().isWhite()) {
+        white |= mask;
+      } else {
+        black |= mask;
+      }
+    }
+    this.whiteOccupancy = white;
+    this.blackOccupancy = black;
+    this.whitePieces = new PieceView(white);
+    this.blackPieces = new PieceView(black);
 
     this.enPassantPawn = builder.enPassantPawn;
-    final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-    final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
-    this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-    this.blackPlayer = new BlackPlayer(this, blackStandardLegalMoves, whiteStandardLegalMoves);
+    this.whitePlayer = new WhitePlayer(this);
+    this.blackPlayer = new BlackPlayer(this);
     this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.blackPlayer, this.whitePlayer);
+    this.castlingRights =
+        builder.castlingRights != null ? builder.castlingRights : calculateCastlingRights();
+    this.zobristKey = builder.zobristKey != null ? builder.zobristKey : Zobrist.computeKey(this);
+    this.score = builder.score != null ? builder.score : BoardScore.compute(this.boardPieces);
   }
 
   public Collection<Piece> getWhitePieces() {
@@ -47,25 +83,112 @@ public class Board {
     return currentPlayer;
   }
 
-  private static Collection<Piece> calculateActivePieces(
-      final List<Tile> gameBoard, final Alliance alliance) {
-    final List<Piece> activePieces = new ArrayList<>();
-
-    for (final Tile tile : gameBoard) {
-      final Piece pieceAtTile = tile.getPiece();
-      if (tile.isTileOccupied() && pieceAtTile.getPieceAlliance() == alliance) {
-        activePieces.add(pieceAtTile);
+  // Piece moves without castles, memoized per Board
+  public Collection<Move> getStandardLegalMoves(final Alliance alliance) {
+    if (alliance.isWhite()) {
+      Collection<Move> moves = this.whiteStandardLegalMoves;
+      if (moves == null) {
+        moves = calculateLegalMoves(this.whitePieces);
+        this.whiteStandardLegalMoves = moves;
       }
+      return moves;
     }
-    return ImmutableList.copyOf(activePieces);
+    Collection<Move> moves = this.blackStandardLegalMoves;
+    if (moves == null) {
+      moves = calculateLegalMoves(this.blackPieces);
+      this.blackStandardLegalMoves = moves;
+    }
+    return moves;
   }
 
-  private List<Tile> createGameBoard(final Builder builder) {
-    final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
-    for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-      tiles[i] = Tile.createTile(i, builder.boardState.get(i));
+  // Worked out on first request and kept, since the GUI and evaluator all ask about the same board
+  public GameStatus getGameStatus() {
+    GameStatus status = this.gameStatus;
+    if (status == null) {
+      status = GameStatus.calculate(this);
+      this.gameStatus = status;
     }
-    return ImmutableList.copyOf(tiles);
+    return status;
+  }
+
+  public int getCastlingRights() {
+    return castlingRights;
+  }
+
+  public long getZobristKey() {
+    return zobristKey;
+  }
+
+  public Piece getPiece(final int tileCoordinate) {
+    return boardPieces[tileCoordinate];
+  }
+
+  public long getPieceBitBoard(final Piece.PieceType pieceType, final Alliance alliance) {
+    return pieceBitBoards[BitBoardUtils.bitBoardIndex(pieceType, alliance)];
+  }
+
+  public long getOccupancy(final Alliance alliance) {
+    return alliance.isWhite() ? whiteOccupancy : blackOccupancy;
+  }
+
+  public long getOccupancy() {
+    return whiteOccupancy | blackOccupancy;
+  }
+
+  public boolean hasInsufficientMaterial() {
+    return BitBoardUtils.hasInsufficientMaterial(pieceBitBoards);
+  }
+
+  // Sum of PieceType values, white minus black
+  public int getMaterial() {
+    return score.getMaterial();
+  }
+
+  // Piece-square tables for white minus black, tapered between middlegame and endgame
+  public int getPieceSquareScore() {
+    return score.getPieceSquareScore();
+  }
+
+  BoardScore getScore() {
+    return score;
+  }
+
+  // Every piece of either alliance attacking the square, as a bitboard
+  public long getAttackers(final int tileCoordinate) {
+    return BitBoardUtils.attackersTo(pieceBitBoards, getOccupancy(), tileCoordinate);
+  }
+
+  int staticExchange(final int source, final int destination, final Piece.PieceType promotionType) {
+    return StaticExchange.evaluate(pieceBitBoards, source, destination, promotionType);
+  }
+
+  // Looks outward from the square for attackers instead of generating the attacker's moves
+  public boolean isSquareAttacked(final int tileCoordinate, final Alliance attacker) {
+    return BitBoardUtils.isSquareAttacked(pieceBitBoards, getOccupancy(), tileCoordinate, attacker);
+  }
+
+  // For boards set up by hand: a right exists while its king and rook still sit unmoved at home
+  private int calculateCastlingRights() {
+    return castlingRight(Alliance.WHITE, 60, 63, BoardUtils.WHITE_KING_SIDE_CASTLE)
+        | castlingRight(Alliance.WHITE, 60, 56, BoardUtils.WHITE_QUEEN_SIDE_CASTLE)
+        | castlingRight(Alliance.BLACK, 4, 7, BoardUtils.BLACK_KING_SIDE_CASTLE)
+        | castlingRight(Alliance.BLACK, 4, 0, BoardUtils.BLACK_QUEEN_SIDE_CASTLE);
+  }
+
+  private int castlingRight(
+      final Alliance alliance, final int kingPosition, final int rookPosition, final int right) {
+    final Piece king = boardPieces[kingPosition];
+    final Piece rook = boardPieces[rookPosition];
+    return king != null
+            && king.getPieceType().isKing()
+            && king.getPieceAlliance() == alliance
+            && king.isFirstMove()
+            && rook != null
+            && rook.getPieceType().isRook()
+            && rook.getPieceAlliance() == alliance
+            && rook.isFirstMove()
+        ? right
+        : 0;
   }
 
   public static Board createStandardBoard() {
@@ -110,7 +233,7 @@ public class Board {
   }
 
   public Tile getTile(final int tileCoordinate) {
-    return gameBoard.get(tileCoordinate);
+    return Tile.createTile(tileCoordinate, boardPieces[tileCoordinate]);
   }
 
   private Collection<Move> calculateLegalMoves(Collection<Piece> pieces) {
@@ -118,7 +241,7 @@ public class Board {
     for (Piece piece : pieces) {
       legalMoves.addAll(piece.calculateLegalMoves(this));
     }
-    return ImmutableList.copyOf(legalMoves);
+    return Collections.unmodifiableList(legalMoves);
   }
 
   public Player whitePlayer() {
@@ -138,12 +261,16 @@ public class Board {
   }
 
   public static class Builder {
-    Map<Integer, Piece> boardState = new HashMap<>();
+    // Indexed by coordinate and holding only shared PieceCache instances
+    final Piece[] boardState = new Piece[BoardUtils.NUM_TILES];
     private Alliance nextMoveMaker;
     private Pawn enPassantPawn;
+    private Integer castlingRights;
+    private Long zobristKey;
+    private BoardScore score;
 
     public Builder setPiece(final Piece piece) {
-      this.boardState.put(piece.getPiecePosition(), piece);
+      this.boardState[piece.getPiecePosition()] = PieceCache.intern(piece);
       return this;
     }
 
@@ -157,22 +284,93 @@ public class Board {
     }
 
     public Builder setEnPassantPawn(Pawn movedPawn) {
-      this.enPassantPawn = movedPawn;
+      this.enPassantPawn = (Pawn) PieceCache.intern(movedPawn);
+      return this;
+    }
+
+    public Builder setCastlingRights(final int castlingRights) {
+      this.castlingRights = castlingRights;
+      return this;
+    }
+
+    // Moves hand over the key they patched; otherwise the Board hashes itself from scratch
+    public Builder setZobristKey(final long zobristKey) {
+      this.zobristKey = zobristKey;
       return this;
     }
+
+    // Like the key, patched by the move when it has one and summed from the pieces otherwise
+    Builder setScore(final BoardScore score) {
+      this.score = score;
+      return this;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (zobristKey ^ (zobristKey >>> 32));
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) return true;
+    if (!(other instanceof Board)) return false;
+    final Board otherBoard = (Board) other;
+    return zobristKey == otherBoard.zobristKey
+        && castlingRights == otherBoard.castlingRights
+        && currentPlayer.getAlliance() == otherBoard.currentPlayer.getAlliance()
+        && Zobrist.enPassantKey(enPassantPawn) == Zobrist.enPassantKey(otherBoard.enPassantPawn)
+        && Arrays.equals(pieceBitBoards, otherBoard.pieceBitBoards);
   }
 
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder();
     for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-      final Tile tile = gameBoard.get(i);
-      final String tileStr = tile.toString();
-      final Piece piece = tile.getPiece();
+      final String tileStr = getTile(i).toString();
       sb.append(String.format("%3s", tileStr));
 
       if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) sb.append("\n");
     }
     return sb.toString();
   }
+
+  // Read-only collection over one side's occupancy, iterated in ascending coordinate order
+  private final class PieceView extends AbstractCollection<Piece> {
+    private final long occupancy;
+
+    private PieceView(final long occupancy) {
+      this.occupancy = occupancy;
+    }
+
+    @Override
+    public Iterator<Piece> iterator() {
+      return new Iterator<Piece>() {
+        private long remaining = occupancy;
+
+        @Override
+        public boolean hasNext() {
+          return remaining != 0;
+        }
+
+        @Override
+        public Piece next() {
+          if (remaining == 0) throw new NoSuchElementException();
+          final int position = BitBoardUtils.firstSquare(remaining);
+          remaining &= remaining - 1;
+          return boardPieces[position];
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException("Board pieces are immutable");
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return Long.bitCount(occupancy);
+    }
+  }
 }
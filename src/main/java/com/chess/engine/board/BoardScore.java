@@ -0,0 +1,94 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+
+/*
+Material and piece-square totals of a position, white minus black, with the game phase that
+tapers between the middlegame and endgame tables. Moves patch these from the previous board the
+same way they patch its Zobrist key, instead of summing every piece again.
+ */
+final class BoardScore {
+  private final int material;
+  private final int middlegame;
+  private final int endgame;
+  private final int phase;
+
+  private BoardScore(final int material, final int middlegame, final int endgame, final int phase) {
+    this.material = material;
+    this.middlegame = middlegame;
+    this.endgame = endgame;
+    this.phase = phase;
+  }
+
+  // Full recomputation; only needed for boards that did not come from a Move
+  static BoardScore compute(final Piece[] boardPieces) {
+    int material = 0;
+    int middlegame = 0;
+    int endgame = 0;
+    int phase = 0;
+    for (final Piece piece : boardPieces) {
+      if (piece == null) {
+        continue;
+      }
+      final int index = PieceSquareTables.index(piece);
+      final int position = piece.getPiecePosition();
+      material += PieceSquareTables.material(index);
+      middlegame += PieceSquareTables.middlegame(index, position);
+      endgame += PieceSquareTables.endgame(index, position);
+      phase += PieceSquareTables.phase(index);
+    }
+    return new BoardScore(material, middlegame, endgame, phase);
+  }
+
+  // The score after a piece becomes pieceAfter, taking captured (null for none) off the board
+  BoardScore move(final Piece pieceBefore, final Piece pieceAfter, final Piece captured) {
+    final int before = PieceSquareTables.index(pieceBefore);
+    final int after = PieceSquareTables.index(pieceAfter);
+    final int from = pieceBefore.getPiecePosition();
+    final int to = pieceAfter.getPiecePosition();
+    int material =
+        this.material - PieceSquareTables.material(before) + PieceSquareTables.material(after);
+    int middlegame =
+        this.middlegame
+            - PieceSquareTables.middlegame(before, from)
+            + PieceSquareTables.middlegame(after, to);
+    int endgame =
+        this.endgame
+            - PieceSquareTables.endgame(before, from)
+            + PieceSquareTables.endgame(after, to);
+    int phase = this.phase - PieceSquareTables.phase(before) + PieceSquareTables.phase(after);
+    if (captured != null) {
+      final int index = PieceSquareTables.index(captured);
+      final int position = captured.getPiecePosition();
+      material -= PieceSquareTables.material(index);
+      middlegame -= PieceSquareTables.middlegame(index, position);
+      endgame -= PieceSquareTables.endgame(index, position);
+      phase -= PieceSquareTables.phase(index);
+    }
+    return new BoardScore(material, middlegame, endgame, phase);
+  }
+
+  int getMaterial() {
+    return this.material;
+  }
+
+  int getPieceSquareScore() {
+    return PieceSquareTables.taper(this.middlegame, this.endgame, this.phase);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) return true;
+    if (!(other instanceof BoardScore)) return false;
+    final BoardScore otherScore = (BoardScore) other;
+    return this.material == otherScore.material
+        && this.middlegame == otherScore.middlegame
+        && this.endgame == otherScore.endgame
+        && this.phase == otherScore.phase;
+  }
+
+  @Override
+  public int hashCode() {
+    return ((this.material * 31 + this.middlegame) * 31 + this.endgame) * 31 + this.phase;
+  }
+}
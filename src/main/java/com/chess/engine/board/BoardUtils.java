@@ -24,6 +24,14 @@ public class BoardUtils {
       initializePositionToCoordinateMap();
   private static final int START_TILE_INDEX = 0;
 
+  // Castling rights as a 4-bit set; a right survives while its king and rook stay unmoved
+  public static final int WHITE_KING_SIDE_CASTLE = 1;
+  public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+  public static final int BLACK_KING_SIDE_CASTLE = 4;
+  public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+  public static final int ALL_CASTLING_RIGHTS = 15;
+  private static final int[] CASTLING_RIGHTS_MASK = initCastlingRightsMask();
+
   // Actually applicable to every piece on the board,
   // moved from Knight
   private BoardUtils() {
@@ -34,6 +42,25 @@ public class BoardUtils {
     return candidateDestinationCoordinate >= 0 && candidateDestinationCoordinate < NUM_TILES;
   }
 
+  // Rights left after a move from source to destination: leaving or capturing on a king/rook
+  // home square drops the rights tied to it
+  public static int updateCastlingRights(
+      final int castlingRights, final int source, final int destination) {
+    return castlingRights & CASTLING_RIGHTS_MASK[source] & CASTLING_RIGHTS_MASK[destination];
+  }
+
+  private static int[] initCastlingRightsMask() {
+    final int[] mask = new int[NUM_TILES];
+    Arrays.fill(mask, ALL_CASTLING_RIGHTS);
+    mask[60] &= ~(WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE);
+    mask[63] &= ~WHITE_KING_SIDE_CASTLE;
+    mask[56] &= ~WHITE_QUEEN_SIDE_CASTLE;
+    mask[4] &= ~(BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE);
+    mask[7] &= ~BLACK_KING_SIDE_CASTLE;
+    mask[0] &= ~BLACK_QUEEN_SIDE_CASTLE;
+    return mask;
+  }
+
   private static boolean[] initColumn(int columnNumber) {
     boolean[] bitArr = new boolean[NUM_TILES];
     int coordinate = columnNumber;
@@ -0,0 +1,157 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Bishop;
+import com.chess.engine.pieces.King;
+import com.chess.engine.pieces.Knight;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Queen;
+import com.chess.engine.pieces.Rook;
+
+/*
+Reads positions in Forsyth-Edwards Notation, e.g. the starting position is
+"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1". The move clocks are ignored.
+ */
+public class FenUtilities {
+
+  private FenUtilities() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static Board createGameFromFEN(final String fenString) {
+    final String[] fields = fenString.trim().split("\\s+");
+    if (fields.length < 4) {
+      throw new RuntimeException("Invalid FEN: " + fenString);
+    }
+    final Alliance moveMaker = moveMaker(fields[1]);
+    final int castlingRights = castlingRights(fields[2]);
+    final Board.Builder builder = new Board.Builder();
+    final Piece[] pieces = placePieces(fields[0], castlingRights);
+    for (final Piece piece : pieces) {
+      if (piece != null) {
+        builder.setPiece(piece);
+      }
+    }
+    builder.setMoveMaker(moveMaker);
+    builder.setCastlingRights(castlingRights);
+    if (!fields[3].equals("-")) {
+      // the pawn that just jumped stands one rank past the target square
+      final int target = BoardUtils.getCoordinateAtPosition(fields[3]);
+      final Piece pawn = pieces[target + moveMaker.getOppositeDirection() * 8];
+      if (pawn == null || pawn.getPieceType() != Piece.PieceType.PAWN) {
+        throw new RuntimeException("Invalid FEN en passant square: " + fenString);
+      }
+      builder.setEnPassantPawn((Pawn) pawn);
+    }
+    return builder.build();
+  }
+
+  private static Piece[] placePieces(final String placement, final int castlingRights) {
+    final Piece[] pieces = new Piece[BoardUtils.NUM_TILES];
+    int coordinate = 0;
+    for (final char c : placement.toCharArray()) {
+      if (c == '/') {
+        continue;
+      }
+      if (Character.isDigit(c)) {
+        coordinate += c - '0';
+        continue;
+      }
+      if (coordinate >= BoardUtils.NUM_TILES) {
+        throw new RuntimeException("Invalid FEN piece placement: " + placement);
+      }
+      pieces[coordinate] = createPiece(c, coordinate, castlingRights);
+      coordinate++;
+    }
+    if (coordinate != BoardUtils.NUM_TILES) {
+      throw new RuntimeException("Invalid FEN piece placement: " + placement);
+    }
+    return pieces;
+  }
+
+  // First-move flags follow the castling rights and home ranks, since move generation reads them
+  private static Piece createPiece(final char c, final int coordinate, final int castlingRights) {
+    final Alliance alliance = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+    final boolean white = alliance.isWhite();
+    switch (Character.toLowerCase(c)) {
+      case 'p':
+        return new Pawn(
+            alliance,
+            coordinate,
+            white ? BoardUtils.SECOND_RANK[coordinate] : BoardUtils.SEVENTH_RANK[coordinate]);
+      case 'n':
+        return new Knight(coordinate, alliance);
+      case 'b':
+        return new Bishop(coordinate, alliance);
+      case 'r':
+        return new Rook(alliance, coordinate, rookHasRight(coordinate, castlingRights));
+      case 'q':
+        return new Queen(coordinate, alliance);
+      case 'k':
+        final int kingSide =
+            white ? BoardUtils.WHITE_KING_SIDE_CASTLE : BoardUtils.BLACK_KING_SIDE_CASTLE;
+        final int queenSide =
+            white ? BoardUtils.WHITE_QUEEN_SIDE_CASTLE : BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+        return new King(
+            alliance,
+            coordinate,
+            (castlingRights & (kingSide | queenSide)) != 0,
+            false,
+            (castlingRights & kingSide) != 0,
+            (castlingRights & queenSide) != 0);
+      default:
+        throw new RuntimeException("Invalid FEN piece: " + c);
+    }
+  }
+
+  private static boolean rookHasRight(final int coordinate, final int castlingRights) {
+    switch (coordinate) {
+      case 63:
+        return (castlingRights & BoardUtils.WHITE_KING_SIDE_CASTLE) != 0;
+      case 56:
+        return (castlingRights & BoardUtils.WHITE_QUEEN_SIDE_CASTLE) != 0;
+      case 7:
+        return (castlingRights & BoardUtils.BLACK_KING_SIDE_CASTLE) != 0;
+      case 0:
+        return (castlingRights & BoardUtils.BLACK_QUEEN_SIDE_CASTLE) != 0;
+      default:
+        return false;
+    }
+  }
+
+  private static Alliance moveMaker(final String field) {
+    if (field.equals("w")) {
+      return Alliance.WHITE;
+    } else if (field.equals("b")) {
+      return Alliance.BLACK;
+    }
+    throw new RuntimeException("Invalid FEN side to move: " + field);
+  }
+
+  private static int castlingRights(final String field) {
+    int castlingRights = 0;
+    if (field.equals("-")) {
+      return castlingRights;
+    }
+    for (final char c : field.toCharArray()) {
+      switch (c) {
+        case 'K':
+          castlingRights |= BoardUtils.WHITE_KING_SIDE_CASTLE;
+          break;
+        case 'Q':
+          castlingRights |= BoardUtils.WHITE_QUEEN_SIDE_CASTLE;
+          break;
+        case 'k':
+          castlingRights |= BoardUtils.BLACK_KING_SIDE_CASTLE;
+          break;
+        case 'q':
+          castlingRights |= BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+          break;
+        default:
+          throw new RuntimeException("Invalid FEN castling rights: " + field);
+      }
+    }
+    return castlingRights;
+  }
+}
@@ -0,0 +1,152 @@
+package com.chess.engine.board;
+
+/*
+Sliding attack sets for rooks, bishops and queens. For each square the blockers that can
+matter (the ray squares short of the board edge) are hashed with a magic multiplier into
+a table holding the full attack set for that occupancy, so a lookup is one multiply,
+one shift and one array read. Magics are searched once at class load with a fixed seed,
+which keeps the tables identical from run to run.
+ */
+public class MagicBitBoards {
+  private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+  private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+  private static final long[] ROOK_MASKS = new long[BoardUtils.NUM_TILES];
+  private static final long[] ROOK_MAGICS = new long[BoardUtils.NUM_TILES];
+  private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUM_TILES];
+  private static final long[][] ROOK_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+  private static final long[] BISHOP_MASKS = new long[BoardUtils.NUM_TILES];
+  private static final long[] BISHOP_MAGICS = new long[BoardUtils.NUM_TILES];
+  private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUM_TILES];
+  private static final long[][] BISHOP_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+  private static long seed = 0x2545F4914F6CDD1DL;
+
+  static {
+    for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+      initSquare(square, ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_ATTACKS);
+      initSquare(
+          square, BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+    }
+  }
+
+  private MagicBitBoards() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static long rookAttacks(final int square, final long occupancy) {
+    return ROOK_ATTACKS[square][
+        (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+  }
+
+  public static long bishopAttacks(final int square, final long occupancy) {
+    return BISHOP_ATTACKS[square][
+        (int)
+            (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square])
+                >>> BISHOP_SHIFTS[square])];
+  }
+
+  public static long queenAttacks(final int square, final long occupancy) {
+    return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+  }
+
+  private static void initSquare(
+      final int square,
+      final int[][] directions,
+      final long[] masks,
+      final long[] magics,
+      final int[] shifts,
+      final long[][] attacks) {
+    final long mask = relevantOccupancyMask(square, directions);
+    final int bits = Long.bitCount(mask);
+    final int size = 1 << bits;
+
+    // Every subset of the mask together with the attack set it produces
+    final long[] occupancies = new long[size];
+    final long[] references = new long[size];
+    long subset = 0;
+    for (int i = 0; i < size; i++) {
+      occupancies[i] = subset;
+      references[i] = slidingAttacks(square, subset, directions);
+      subset = (subset - mask) & mask;
+    }
+
+    final long[] table = new long[size];
+    final int[] epochs = new int[size];
+    int epoch = 0;
+    while (true) {
+      final long magic = nextSparseRandom();
+      if (Long.bitCount((mask * magic) >>> 56) < 6) continue;
+      epoch++;
+      boolean collision = false;
+      for (int i = 0; i < size && !collision; i++) {
+        final int index = (int) ((occupancies[i] * magic) >>> (64 - bits));
+        if (epochs[index] != epoch) {
+          epochs[index] = epoch;
+          table[index] = references[i];
+        } else if (table[index] != references[i]) {
+          collision = true;
+        }
+      }
+      if (!collision) {
+        masks[square] = mask;
+        magics[square] = magic;
+        shifts[square] = 64 - bits;
+        attacks[square] = table;
+        return;
+      }
+    }
+  }
+
+  // Ray squares whose occupancy changes the attack set: everything short of the edge
+  private static long relevantOccupancyMask(final int square, final int[][] directions) {
+    long mask = 0;
+    for (final int[] direction : directions) {
+      int row = square / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+      int column = square % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+      while (isOnBoard(row + direction[0], column + direction[1])) {
+        mask |= BitBoardUtils.squareMask(row * BoardUtils.NUM_TILES_PER_ROW + column);
+        row += direction[0];
+        column += direction[1];
+      }
+    }
+    return mask;
+  }
+
+  private static long slidingAttacks(
+      final int square, final long occupancy, final int[][] directions) {
+    long attacks = 0;
+    for (final int[] direction : directions) {
+      int row = square / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+      int column = square % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+      while (isOnBoard(row, column)) {
+        final long target = BitBoardUtils.squareMask(row * BoardUtils.NUM_TILES_PER_ROW + column);
+        attacks |= target;
+        if ((occupancy & target) != 0) break;
+        row += direction[0];
+        column += direction[1];
+      }
+    }
+    return attacks;
+  }
+
+  private static boolean isOnBoard(final int row, final int column) {
+    return row >= 0
+        && row < BoardUtils.NUM_TILES_PER_ROW
+        && column >= 0
+        && column < BoardUtils.NUM_TILES_PER_ROW;
+  }
+
+  private static long nextSparseRandom() {
+    return nextRandom() & nextRandom() & nextRandom();
+  }
+
+  // xorshift64*, only used while building the tables
+  private static long nextRandom() {
+    seed ^= seed >>> 12;
+    seed ^= seed << 25;
+    seed ^= seed >>> 27;
+    return seed * 0x2545F4914F6CDD1DL;
+  }
+}
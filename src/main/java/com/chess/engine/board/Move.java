@@ -2,6 +2,7 @@ package com.chess.engine.board;
 
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.PieceCache;
 import com.chess.engine.pieces.Rook;
 
 public abstract class Move {
@@ -45,16 +46,52 @@ public abstract class Move {
       builder.setPiece(piece);
     }
 
-    builder.setPiece(movedPiece.movePiece(this));
+    final Piece pieceAfterMove = movedPiece.movePiece(this);
+    builder.setPiece(pieceAfterMove);
     builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+    final int castlingRights = castlingRightsAfterMove();
+    builder.setCastlingRights(castlingRights);
+    builder.setZobristKey(transitionKey(pieceAfterMove, getAttackedPiece(), castlingRights, null));
+    builder.setScore(transitionScore(pieceAfterMove, getAttackedPiece()));
 
     return builder.build();
   }
 
+  protected int castlingRightsAfterMove() {
+    return BoardUtils.updateCastlingRights(
+        board.getCastlingRights(), getCurrentCoordinate(), destinationCoordinate);
+  }
+
+  // Zobrist key of the resulting position, patched from this board's key
+  protected long transitionKey(
+      final Piece pieceAfterMove,
+      final Piece capturedPiece,
+      final int castlingRights,
+      final Pawn enPassantPawn) {
+    long key = board.getZobristKey();
+    key ^= Zobrist.pieceKey(movedPiece) ^ Zobrist.pieceKey(pieceAfterMove);
+    if (capturedPiece != null) key ^= Zobrist.pieceKey(capturedPiece);
+    key ^= Zobrist.castlingKey(board.getCastlingRights()) ^ Zobrist.castlingKey(castlingRights);
+    key ^= Zobrist.enPassantKey(board.getEnPassantPawn()) ^ Zobrist.enPassantKey(enPassantPawn);
+    return key ^ Zobrist.blackToMoveKey();
+  }
+
+  BoardScore transitionScore(final Piece pieceAfterMove, final Piece capturedPiece) {
+    return board.getScore().move(movedPiece, pieceAfterMove, capturedPiece);
+  }
+
   public boolean isAttack() {
     return false;
   }
 
+  /*
+  Material this move wins once both sides have traded off on the destination square; below zero
+  when the moved piece is lost for less, as with a queen taking a defended pawn
+   */
+  public int staticExchange() {
+    return board.staticExchange(getCurrentCoordinate(), destinationCoordinate, null);
+  }
+
   public boolean isCastlingMove() {
     return false;
   }
@@ -168,14 +205,39 @@ public abstract class Move {
     }
   }
 
+  /*
+  Passing the turn. NULL_MOVE stands for "no move" and has no board to pass on; one built for a
+  board hands the move to the opponent with every piece in place and no en passant capture.
+   */
   public static final class NullMove extends Move {
     public NullMove() {
       super(null, -1);
     }
 
+    public NullMove(final Board board) {
+      super(board, -1);
+    }
+
     @Override
     public Board execute() {
-      throw new RuntimeException("Null move cannot be executed");
+      if (board == null) {
+        throw new RuntimeException("Null move cannot be executed");
+      }
+      final Board.Builder builder = new Board.Builder();
+      for (final Piece piece : board.currentPlayer().getActivePieces()) {
+        builder.setPiece(piece);
+      }
+      for (final Piece piece : board.currentPlayer().getOpponent().getActivePieces()) {
+        builder.setPiece(piece);
+      }
+      builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+      builder.setCastlingRights(board.getCastlingRights());
+      builder.setZobristKey(
+          board.getZobristKey()
+              ^ Zobrist.enPassantKey(board.getEnPassantPawn())
+              ^ Zobrist.blackToMoveKey());
+      builder.setScore(board.getScore());
+      return builder.build();
     }
 
     @Override
@@ -183,6 +245,11 @@ public abstract class Move {
       return -1;
     }
 
+    @Override
+    public int staticExchange() {
+      return 0;
+    }
+
     @Override
     public String toString() {
       return "";
@@ -248,8 +315,14 @@ public abstract class Move {
           builder.setPiece(piece);
         }
       }
-      builder.setPiece(this.movedPiece.movePiece(this));
+      final Piece pieceAfterMove = this.movedPiece.movePiece(this);
+      builder.setPiece(pieceAfterMove);
       builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+      final int castlingRights = castlingRightsAfterMove();
+      builder.setCastlingRights(castlingRights);
+      builder.setZobristKey(
+          transitionKey(pieceAfterMove, getAttackedPiece(), castlingRights, null));
+      builder.setScore(transitionScore(pieceAfterMove, getAttackedPiece()));
       return builder.build();
     }
   }
@@ -276,6 +349,10 @@ public abstract class Move {
       builder.setPiece(movedPawn);
       builder.setEnPassantPawn(movedPawn);
       builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+      final int castlingRights = castlingRightsAfterMove();
+      builder.setCastlingRights(castlingRights);
+      builder.setZobristKey(transitionKey(movedPawn, null, castlingRights, movedPawn));
+      builder.setScore(transitionScore(movedPawn, null));
 
       return builder.build();
     }
@@ -315,9 +392,20 @@ public abstract class Move {
       for (final Piece piece : board.currentPlayer().getOpponent().getActivePieces()) {
         builder.setPiece(piece);
       }
-      builder.setPiece(movedPiece.movePiece(this));
-      builder.setPiece(new Rook(castleRook.getPiecePosition(), castleRook.getPieceAlliance()));
+      final Piece kingAfterMove = movedPiece.movePiece(this);
+      final Piece rookAfterMove =
+          PieceCache.get(
+              Piece.PieceType.ROOK, castleRook.getPieceAlliance(), castleRookDestination, false);
+      builder.setPiece(kingAfterMove);
+      builder.setPiece(rookAfterMove);
       builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+      final int castlingRights = castlingRightsAfterMove();
+      builder.setCastlingRights(castlingRights);
+      builder.setZobristKey(
+          transitionKey(kingAfterMove, null, castlingRights, null)
+              ^ Zobrist.pieceKey(castleRook)
+              ^ Zobrist.pieceKey(rookAfterMove));
+      builder.setScore(transitionScore(kingAfterMove, null).move(castleRook, rookAfterMove, null));
 
       return builder.build();
     }
@@ -426,8 +514,17 @@ public abstract class Move {
         builder.setPiece(piece);
       }
 
-      builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
+      final Piece promotionPiece = this.promotedPawn.getPromotionPiece().movePiece(this);
+      builder.setPiece(promotionPiece);
       builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+      builder.setCastlingRights(pawnMovedBoard.getCastlingRights());
+      // the pawn that landed on the promotion square becomes the new piece
+      final Piece landedPawn = pawnMovedBoard.getPiece(this.destinationCoordinate);
+      builder.setZobristKey(
+          pawnMovedBoard.getZobristKey()
+              ^ Zobrist.pieceKey(landedPawn)
+              ^ Zobrist.pieceKey(promotionPiece));
+      builder.setScore(pawnMovedBoard.getScore().move(landedPawn, promotionPiece, null));
 
       return builder.build();
     }
@@ -437,6 +534,14 @@ public abstract class Move {
       return decoratedMove.isAttack();
     }
 
+    @Override
+    public int staticExchange() {
+      return board.staticExchange(
+          getCurrentCoordinate(),
+          destinationCoordinate,
+          this.promotedPawn.getPromotionPiece().getPieceType());
+    }
+
     @Override
     public Piece getAttackedPiece() {
       return decoratedMove.getAttackedPiece();
@@ -480,5 +585,14 @@ public abstract class Move {
       }
       return NULL_MOVE;
     }
+
+    // Turns a move found by the search back into the Move the GUI and MoveLog work with
+    public static Move createMove(final Board board, final int packedMove) {
+      if (packedMove == PackedMove.NO_MOVE) {
+        return null;
+      }
+      return createMove(
+          board, PackedMove.getSource(packedMove), PackedMove.getDestination(packedMove));
+    }
   }
 }
@@ -0,0 +1,68 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece.PieceType;
+
+/*
+Moves as used inside the search: a plain int instead of a Move object.
+bits 0-5 source coordinate, bits 6-11 destination coordinate, bits 12-15 flags.
+Flags 8-15 are promotions; the low two bits pick the piece and bit 2 marks a capture.
+ */
+public class PackedMove {
+  public static final int NO_MOVE = 0;
+
+  public static final int QUIET = 0;
+  public static final int DOUBLE_PAWN_PUSH = 1;
+  public static final int KING_CASTLE = 2;
+  public static final int QUEEN_CASTLE = 3;
+  public static final int CAPTURE = 4;
+  public static final int EN_PASSANT = 5;
+  public static final int PROMOTION = 8;
+  public static final int PROMOTION_CAPTURE = 12;
+
+  private static final PieceType[] PROMOTION_TYPES = {
+    PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN
+  };
+
+  private PackedMove() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static int create(final int source, final int destination, final int flags) {
+    return source | (destination << 6) | (flags << 12);
+  }
+
+  public static int getSource(final int move) {
+    return move & 0x3F;
+  }
+
+  public static int getDestination(final int move) {
+    return (move >>> 6) & 0x3F;
+  }
+
+  public static int getFlags(final int move) {
+    return (move >>> 12) & 0xF;
+  }
+
+  public static boolean isCapture(final int move) {
+    return (getFlags(move) & CAPTURE) != 0;
+  }
+
+  public static boolean isPromotion(final int move) {
+    return (getFlags(move) & PROMOTION) != 0;
+  }
+
+  public static boolean isCastle(final int move) {
+    final int flags = getFlags(move);
+    return flags == KING_CASTLE || flags == QUEEN_CASTLE;
+  }
+
+  public static PieceType getPromotionType(final int move) {
+    return PROMOTION_TYPES[getFlags(move) & 3];
+  }
+
+  public static String toString(final int move) {
+    return BoardUtils.getPositionAtCoordinate(getSource(move))
+        + BoardUtils.getPositionAtCoordinate(getDestination(move))
+        + (isPromotion(move) ? getPromotionType(move).toString().toLowerCase() : "");
+  }
+}
@@ -0,0 +1,151 @@
+package com.chess.engine.board;
+
+import com.chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+Counts the leaf nodes of the legal move tree to a fixed depth, through the same
+Player.makeMove path the game uses. Published counts for standard positions make this the
+correctness check for move generation, and nodes per second its throughput measure.
+ */
+public class Perft {
+
+  private Perft() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static long perft(final Board board, final int depth) {
+    if (depth == 0) return 1;
+    long nodes = 0;
+    for (final Move move : board.currentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.currentPlayer().makeMove(move);
+      if (transition.getMoveStatus().isDone()) {
+        nodes += perft(transition.getTransitionBoard(), depth - 1);
+      }
+    }
+    return nodes;
+  }
+
+  // Node count below each legal root move, keyed like "e2e4", to find where two counts diverge
+  public static Map<String, Long> divide(final Board board, final int depth) {
+    final Map<String, Long> counts = new LinkedHashMap<>();
+    for (final Move move : board.currentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.currentPlayer().makeMove(move);
+      if (transition.getMoveStatus().isDone()) {
+        counts.put(moveName(move), perft(transition.getTransitionBoard(), depth - 1));
+      }
+    }
+    return counts;
+  }
+
+  // Root moves split across threads; subtree counts shared through a hash table on Zobrist keys
+  public static long perft(
+      final Board board, final int depth, final int numThreads, final int hashSizeInMb) {
+    if (depth == 0) return 1;
+    final ForkJoinPool pool = new ForkJoinPool(numThreads);
+    try {
+      return perft(board, depth, pool, new PerftTable(hashSizeInMb));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  // Caller-owned pool and table, for repeated runs; the table's counts stay valid across boards
+  public static long perft(
+      final Board board, final int depth, final ForkJoinPool pool, final PerftTable table) {
+    if (depth == 0) return 1;
+    final List<SubtreeTask> tasks = new ArrayList<>();
+    for (final Move move : board.currentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.currentPlayer().makeMove(move);
+      if (transition.getMoveStatus().isDone()) {
+        final SubtreeTask task = new SubtreeTask(transition.getTransitionBoard(), depth - 1, table);
+        tasks.add(task);
+        pool.execute(task);
+      }
+    }
+    long nodes = 0;
+    for (final SubtreeTask task : tasks) {
+      nodes += task.join();
+    }
+    return nodes;
+  }
+
+  private static long hashedPerft(final Board board, final int depth, final PerftTable table) {
+    if (depth == 0) return 1;
+    final long key = board.getZobristKey();
+    final long cached = table.probe(key, depth);
+    if (cached >= 0) return cached;
+    long nodes = 0;
+    for (final Move move : board.currentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.currentPlayer().makeMove(move);
+      if (transition.getMoveStatus().isDone()) {
+        nodes += hashedPerft(transition.getTransitionBoard(), depth - 1, table);
+      }
+    }
+    table.store(key, depth, nodes);
+    return nodes;
+  }
+
+  private static String moveName(final Move move) {
+    return BoardUtils.getPositionAtCoordinate(move.getCurrentCoordinate())
+        + BoardUtils.getPositionAtCoordinate(move.getDestinationCoordinate());
+  }
+
+  private static class SubtreeTask extends RecursiveTask<Long> {
+    private final Board board;
+    private final int depth;
+    private final PerftTable table;
+
+    private SubtreeTask(final Board board, final int depth, final PerftTable table) {
+      this.board = board;
+      this.depth = depth;
+      this.table = table;
+    }
+
+    @Override
+    protected Long compute() {
+      return hashedPerft(this.board, this.depth, this.table);
+    }
+  }
+
+  // Same lock-free layout as the search's TranspositionTable: key ^ data, then data
+  public static class PerftTable {
+    private final long[] slots;
+    private final int mask;
+
+    public PerftTable(final int sizeInMegabytes) {
+      final long entries = (long) Math.max(sizeInMegabytes, 1) * 1024 * 1024 / 16;
+      final int numEntries = Integer.highestOneBit((int) Math.min(entries, 1 << 28));
+      this.slots = new long[numEntries * 2];
+      this.mask = numEntries - 1;
+    }
+
+    public void clear() {
+      Arrays.fill(this.slots, 0);
+    }
+
+    // Count stored for this key and depth, or -1
+    private long probe(final long key, final int depth) {
+      final int index = ((int) (key ^ (key >>> 32)) & this.mask) * 2;
+      final long data = this.slots[index + 1];
+      if (data != 0 && (this.slots[index] ^ data) == key && (data & 0xFF) == depth) {
+        return data >>> 8;
+      }
+      return -1;
+    }
+
+    private void store(final long key, final int depth, final long nodes) {
+      final int index = ((int) (key ^ (key >>> 32)) & this.mask) * 2;
+      final long data = (nodes << 8) | depth;
+      this.slots[index] = key ^ data;
+      this.slots[index + 1] = data;
+    }
+  }
+}
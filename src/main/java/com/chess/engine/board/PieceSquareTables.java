@@ -0,0 +1,199 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+/*
+Material and piece-square values, looked up by bitboard index and signed for white: white pieces
+count up, black pieces count down, so a position's score is just the sum over its pieces. Each
+piece has a middlegame and an endgame table; the game phase, which falls as pieces come off,
+blends the two. Tables are written from white's side with a8 first, like the board.
+ */
+public final class PieceSquareTables {
+  public static final int MAX_PHASE = 24;
+
+  private static final int[] PAWN_MIDDLEGAME = {
+    0, 0, 0, 0, 0, 0, 0, 0,
+    50, 50, 50, 50, 50, 50, 50, 50,
+    10, 10, 20, 30, 30, 20, 10, 10,
+    5, 5, 10, 25, 25, 10, 5, 5,
+    0, 0, 0, 20, 20, 0, 0, 0,
+    5, -5, -10, 0, 0, -10, -5, 5,
+    5, 10, 10, -20, -20, 10, 10, 5,
+    0, 0, 0, 0, 0, 0, 0, 0
+  };
+  private static final int[] PAWN_ENDGAME = {
+    0, 0, 0, 0, 0, 0, 0, 0,
+    80, 80, 80, 80, 80, 80, 80, 80,
+    50, 50, 50, 50, 50, 50, 50, 50,
+    30, 30, 30, 30, 30, 30, 30, 30,
+    20, 20, 20, 20, 20, 20, 20, 20,
+    10, 10, 10, 10, 10, 10, 10, 10,
+    0, 0, 0, 0, 0, 0, 0, 0,
+    0, 0, 0, 0, 0, 0, 0, 0
+  };
+  private static final int[] KNIGHT_TABLE = {
+    -50, -40, -30, -30, -30, -30, -40, -50,
+    -40, -20, 0, 0, 0, 0, -20, -40,
+    -30, 0, 10, 15, 15, 10, 0, -30,
+    -30, 5, 15, 20, 20, 15, 5, -30,
+    -30, 0, 15, 20, 20, 15, 0, -30,
+    -30, 5, 10, 15, 15, 10, 5, -30,
+    -40, -20, 0, 5, 5, 0, -20, -40,
+    -50, -40, -30, -30, -30, -30, -40, -50
+  };
+  private static final int[] BISHOP_TABLE = {
+    -20, -10, -10, -10, -10, -10, -10, -20,
+    -10, 0, 0, 0, 0, 0, 0, -10,
+    -10, 0, 5, 10, 10, 5, 0, -10,
+    -10, 5, 5, 10, 10, 5, 5, -10,
+    -10, 0, 10, 10, 10, 10, 0, -10,
+    -10, 10, 10, 10, 10, 10, 10, -10,
+    -10, 5, 0, 0, 0, 0, 5, -10,
+    -20, -10, -10, -10, -10, -10, -10, -20
+  };
+  private static final int[] ROOK_TABLE = {
+    0, 0, 0, 0, 0, 0, 0, 0,
+    5, 10, 10, 10, 10, 10, 10, 5,
+    -5, 0, 0, 0, 0, 0, 0, -5,
+    -5, 0, 0, 0, 0, 0, 0, -5,
+    -5, 0, 0, 0, 0, 0, 0, -5,
+    -5, 0, 0, 0, 0, 0, 0, -5,
+    -5, 0, 0, 0, 0, 0, 0, -5,
+    0, 0, 0, 5, 5, 0, 0, 0
+  };
+  private static final int[] QUEEN_TABLE = {
+    -20, -10, -10, -5, -5, -10, -10, -20,
+    -10, 0, 0, 0, 0, 0, 0, -10,
+    -10, 0, 5, 5, 5, 5, 0, -10,
+    -5, 0, 5, 5, 5, 5, 0, -5,
+    0, 0, 5, 5, 5, 5, 0, -5,
+    -10, 5, 5, 5, 5, 5, 0, -10,
+    -10, 0, 5, 0, 0, 0, 0, -10,
+    -20, -10, -10, -5, -5, -10, -10, -20
+  };
+  // Sheltered behind its pawns while there is material about, central once it is gone
+  private static final int[] KING_MIDDLEGAME = {
+    -30, -40, -40, -50, -50, -40, -40, -30,
+    -30, -40, -40, -50, -50, -40, -40, -30,
+    -30, -40, -40, -50, -50, -40, -40, -30,
+    -30, -40, -40, -50, -50, -40, -40, -30,
+    -20, -30, -30, -40, -40, -30, -30, -20,
+    -10, -20, -20, -20, -20, -20, -20, -10,
+    20, 20, 0, 0, 0, 0, 20, 20,
+    20, 30, 10, 0, 0, 10, 30, 20
+  };
+  private static final int[] KING_ENDGAME = {
+    -50, -40, -30, -20, -20, -30, -40, -50,
+    -30, -20, -10, 0, 0, -10, -20, -30,
+    -30, -10, 20, 30, 30, 20, -10, -30,
+    -30, -10, 30, 40, 40, 30, -10, -30,
+    -30, -10, 30, 40, 40, 30, -10, -30,
+    -30, -10, 20, 30, 30, 20, -10, -30,
+    -30, -30, 0, 0, 0, 0, -30, -30,
+    -50, -30, -30, -30, -30, -30, -30, -50
+  };
+
+  private static final int[] MATERIAL = new int[BitBoardUtils.NUM_BITBOARDS];
+  private static final int[] PHASE = new int[BitBoardUtils.NUM_BITBOARDS];
+  private static final int[][] MIDDLEGAME = new int[BitBoardUtils.NUM_BITBOARDS][];
+  private static final int[][] ENDGAME = new int[BitBoardUtils.NUM_BITBOARDS][];
+
+  static {
+    for (final PieceType pieceType : PieceType.values()) {
+      for (final Alliance alliance : Alliance.values()) {
+        final int index = BitBoardUtils.bitBoardIndex(pieceType, alliance);
+        final int sign = alliance.isWhite() ? 1 : -1;
+        MATERIAL[index] = sign * pieceType.getPieceValue();
+        PHASE[index] = phaseWeight(pieceType);
+        MIDDLEGAME[index] = forAlliance(middlegameTable(pieceType), alliance);
+        ENDGAME[index] = forAlliance(endgameTable(pieceType), alliance);
+      }
+    }
+  }
+
+  private PieceSquareTables() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static int index(final Piece piece) {
+    return BitBoardUtils.bitBoardIndex(piece.getPieceType(), piece.getPieceAlliance());
+  }
+
+  public static int material(final int bitBoardIndex) {
+    return MATERIAL[bitBoardIndex];
+  }
+
+  public static int middlegame(final int bitBoardIndex, final int tileCoordinate) {
+    return MIDDLEGAME[bitBoardIndex][tileCoordinate];
+  }
+
+  public static int endgame(final int bitBoardIndex, final int tileCoordinate) {
+    return ENDGAME[bitBoardIndex][tileCoordinate];
+  }
+
+  // Unsigned; MAX_PHASE with all minor and major pieces on, 0 with none
+  public static int phase(final int bitBoardIndex) {
+    return PHASE[bitBoardIndex];
+  }
+
+  public static int taper(final int middlegame, final int endgame, final int phase) {
+    final int weight = Math.min(phase, MAX_PHASE);
+    return (middlegame * weight + endgame * (MAX_PHASE - weight)) / MAX_PHASE;
+  }
+
+  private static int phaseWeight(final PieceType pieceType) {
+    switch (pieceType) {
+      case KNIGHT:
+      case BISHOP:
+        return 1;
+      case ROOK:
+        return 2;
+      case QUEEN:
+        return 4;
+      default:
+        return 0;
+    }
+  }
+
+  private static int[] middlegameTable(final PieceType pieceType) {
+    switch (pieceType) {
+      case PAWN:
+        return PAWN_MIDDLEGAME;
+      case KING:
+        return KING_MIDDLEGAME;
+      default:
+        return endgameTable(pieceType);
+    }
+  }
+
+  private static int[] endgameTable(final PieceType pieceType) {
+    switch (pieceType) {
+      case PAWN:
+        return PAWN_ENDGAME;
+      case ROOK:
+        return ROOK_TABLE;
+      case KNIGHT:
+        return KNIGHT_TABLE;
+      case BISHOP:
+        return BISHOP_TABLE;
+      case QUEEN:
+        return QUEEN_TABLE;
+      default:
+        return KING_ENDGAME;
+    }
+  }
+
+  // Black reads white's table upside down, and counts against white
+  private static int[] forAlliance(final int[] table, final Alliance alliance) {
+    final int[] signed = new int[BoardUtils.NUM_TILES];
+    for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+      signed[i] =
+          alliance.isWhite()
+              ? table[i]
+              : -table[i ^ (BoardUtils.NUM_TILES - BoardUtils.NUM_TILES_PER_ROW)];
+    }
+    return signed;
+  }
+}
@@ -0,0 +1,540 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+/*
+Mutable position used only inside the search. Moves are PackedMove ints applied in place
+with makeMove and taken back with unmakeMove, so walking the tree allocates nothing per node.
+Board stays the immutable type handed to the GUI; a SearchBoard is created from one at the
+root and the chosen move is mapped back with Move.MoveFactory.
+ */
+public final class SearchBoard {
+  public static final int MAX_MOVES = 256;
+  public static final int NO_SQUARE = -1;
+
+  private static final int EMPTY = -1;
+  private static final int WHITE = 0;
+  private static final int BLACK = 1;
+  private static final Alliance[] ALLIANCES = {Alliance.WHITE, Alliance.BLACK};
+  private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+  private static final int PAWN = PieceType.PAWN.ordinal();
+  private static final int ROOK = PieceType.ROOK.ordinal();
+  private static final int KNIGHT = PieceType.KNIGHT.ordinal();
+  private static final int BISHOP = PieceType.BISHOP.ordinal();
+  private static final int QUEEN = PieceType.QUEEN.ordinal();
+  private static final int KING = PieceType.KING.ordinal();
+
+  private static final int INITIAL_HISTORY = 128;
+
+  private final long[] pieceBitBoards = new long[BitBoardUtils.NUM_BITBOARDS];
+  private final long[] occupancies = new long[2];
+  private final int[] mailbox = new int[BoardUtils.NUM_TILES];
+  private final int[] scratchMoves = new int[MAX_MOVES];
+
+  private int sideToMove;
+  private int castlingRights;
+  private int enPassantSquare;
+  private int castled;
+  private long zobristKey;
+  // Material and piece-square sums, white minus black, kept up by addPiece and removePiece
+  private int material;
+  private int middlegameScore;
+  private int endgameScore;
+  private int phase;
+
+  // Undo stack: what makeMove cannot reconstruct from the move itself
+  private int[] capturedHistory = new int[INITIAL_HISTORY];
+  // One move list per ply, shared by every node the search visits at that ply
+  private int[][] moveLists = new int[INITIAL_HISTORY][];
+  private int[] stateHistory = new int[INITIAL_HISTORY];
+  private long[] keyHistory = new long[INITIAL_HISTORY];
+  private int ply;
+
+  public SearchBoard(final Board board) {
+    Arrays.fill(this.mailbox, EMPTY);
+    for (final Piece piece : board.getWhitePieces()) {
+      addPiece(pieceCode(piece), piece.getPiecePosition());
+    }
+    for (final Piece piece : board.getBlackPieces()) {
+      addPiece(pieceCode(piece), piece.getPiecePosition());
+    }
+    this.sideToMove = board.currentPlayer().getAlliance().ordinal();
+    this.castlingRights = board.getCastlingRights();
+    this.zobristKey = board.getZobristKey();
+    this.enPassantSquare = enPassantSquare(board.getEnPassantPawn());
+    this.castled =
+        (board.whitePlayer().isCastled() ? 1 << WHITE : 0)
+            | (board.blackPlayer().isCastled() ? 1 << BLACK : 0);
+  }
+
+  public Alliance getSideToMove() {
+    return ALLIANCES[sideToMove];
+  }
+
+  public int getCastlingRights() {
+    return castlingRights;
+  }
+
+  public int getEnPassantSquare() {
+    return enPassantSquare;
+  }
+
+  // Same key Board.getZobristKey gives for this position
+  public long getZobristKey() {
+    return zobristKey;
+  }
+
+  public int getPly() {
+    return ply;
+  }
+
+  // Only valid until the next move is made at this ply, since the list is handed out again
+  public int[] getMoveList() {
+    if (ply >= moveLists.length) {
+      moveLists = Arrays.copyOf(moveLists, ply * 2);
+    }
+    int[] moves = moveLists[ply];
+    if (moves == null) {
+      moves = new int[MAX_MOVES];
+      moveLists[ply] = moves;
+    }
+    return moves;
+  }
+
+  // Null for an empty square
+  public PieceType getPieceType(final int square) {
+    return mailbox[square] == EMPTY ? null : PIECE_TYPES[mailbox[square] >> 1];
+  }
+
+  // Type of the piece the move takes, or null for a move that takes nothing
+  public PieceType getCapturedPieceType(final int move) {
+    if (PackedMove.getFlags(move) == PackedMove.EN_PASSANT) {
+      return PieceType.PAWN;
+    }
+    return PackedMove.isCapture(move) ? getPieceType(PackedMove.getDestination(move)) : null;
+  }
+
+  public long getPieceBitBoard(final PieceType pieceType, final Alliance alliance) {
+    return pieceBitBoards[BitBoardUtils.bitBoardIndex(pieceType, alliance)];
+  }
+
+  public long getOccupancy(final Alliance alliance) {
+    return occupancies[alliance.ordinal()];
+  }
+
+  public long getOccupancy() {
+    return occupancies[WHITE] | occupancies[BLACK];
+  }
+
+  public boolean hasInsufficientMaterial() {
+    return BitBoardUtils.hasInsufficientMaterial(pieceBitBoards);
+  }
+
+  // Sum of PieceType values, white minus black
+  public int getMaterial() {
+    return material;
+  }
+
+  // Piece-square tables for white minus black, tapered between middlegame and endgame
+  public int getPieceSquareScore() {
+    return PieceSquareTables.taper(middlegameScore, endgameScore, phase);
+  }
+
+  public boolean isCastled(final Alliance alliance) {
+    return (castled & (1 << alliance.ordinal())) != 0;
+  }
+
+  // Every piece of either alliance attacking the square, as a bitboard
+  public long getAttackers(final int tileCoordinate) {
+    return BitBoardUtils.attackersTo(pieceBitBoards, getOccupancy(), tileCoordinate);
+  }
+
+  // Material the mover keeps once the exchange on the destination square is played out
+  public int staticExchange(final int move) {
+    return StaticExchange.evaluate(
+        pieceBitBoards,
+        PackedMove.getSource(move),
+        PackedMove.getDestination(move),
+        PackedMove.isPromotion(move) ? PackedMove.getPromotionType(move) : null);
+  }
+
+  public boolean isSquareAttacked(final int tileCoordinate, final Alliance attacker) {
+    return BitBoardUtils.isSquareAttacked(pieceBitBoards, getOccupancy(), tileCoordinate, attacker);
+  }
+
+  public boolean isInCheck(final Alliance alliance) {
+    return isSquareAttacked(kingSquare(alliance.ordinal()), ALLIANCES[alliance.ordinal() ^ 1]);
+  }
+
+  public boolean isInCheck() {
+    return isInCheck(ALLIANCES[sideToMove]);
+  }
+
+  // Anything besides king and pawns; without it passing may be better than every move
+  public boolean hasNonPawnMaterial() {
+    final int us = sideToMove;
+    return (pieceBitBoards[KNIGHT * 2 + us]
+            | pieceBitBoards[BISHOP * 2 + us]
+            | pieceBitBoards[ROOK * 2 + us]
+            | pieceBitBoards[QUEEN * 2 + us])
+        != 0;
+  }
+
+  public boolean hasLegalMove() {
+    final int numMoves = generateMoves(sideToMove, scratchMoves, false);
+    for (int i = 0; i < numMoves; i++) {
+      if (makeMove(scratchMoves[i])) {
+        unmakeMove(scratchMoves[i]);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean isInCheckMate() {
+    return isInCheck() && !hasLegalMove();
+  }
+
+  // Pseudo-legal move count, including castles, as Player.getLegalMoves().size() counts them
+  public int mobility(final Alliance alliance) {
+    return generateMoves(alliance.ordinal(), scratchMoves, false);
+  }
+
+  // Fills moves with the side to move's pseudo-legal moves; legality is settled by makeMove
+  public int generateMoves(final int[] moves) {
+    return generateMoves(sideToMove, moves, false);
+  }
+
+  // Captures and promotions only, the moves a quiescence search still looks at
+  public int generateTacticalMoves(final int[] moves) {
+    return generateMoves(sideToMove, moves, true);
+  }
+
+  /*
+  Applies the move in place. Returns false, with the position already restored, when the move
+  leaves the mover's own king attacked
+   */
+  public boolean makeMove(final int move) {
+    final int source = PackedMove.getSource(move);
+    final int destination = PackedMove.getDestination(move);
+    final int flags = PackedMove.getFlags(move);
+    final int us = sideToMove;
+    final int piece = mailbox[source];
+
+    if (ply == stateHistory.length) {
+      capturedHistory = Arrays.copyOf(capturedHistory, ply * 2);
+      stateHistory = Arrays.copyOf(stateHistory, ply * 2);
+      keyHistory = Arrays.copyOf(keyHistory, ply * 2);
+    }
+    stateHistory[ply] = packState();
+    keyHistory[ply] = zobristKey;
+    long key = zobristKey ^ Zobrist.enPassantKey(enPassantSquare);
+
+    int captured = EMPTY;
+    if (flags == PackedMove.EN_PASSANT) {
+      final int capturedSquare = destination + (us == WHITE ? 8 : -8);
+      captured = mailbox[capturedSquare];
+      removePiece(captured, capturedSquare);
+      key ^= Zobrist.pieceKey(captured, capturedSquare);
+    } else if (PackedMove.isCapture(move)) {
+      captured = mailbox[destination];
+      removePiece(captured, destination);
+      key ^= Zobrist.pieceKey(captured, destination);
+    }
+    capturedHistory[ply] = captured;
+
+    final int landed =
+        PackedMove.isPromotion(move) ? PackedMove.getPromotionType(move).ordinal() * 2 + us : piece;
+    removePiece(piece, source);
+    addPiece(landed, destination);
+    key ^= Zobrist.pieceKey(piece, source) ^ Zobrist.pieceKey(landed, destination);
+
+    enPassantSquare = NO_SQUARE;
+    if (flags == PackedMove.DOUBLE_PAWN_PUSH) {
+      enPassantSquare = (source + destination) / 2;
+      key ^= Zobrist.enPassantKey(enPassantSquare);
+    } else if (flags == PackedMove.KING_CASTLE) {
+      key ^= moveRook(us, source + 3, source + 1);
+      castled |= 1 << us;
+    } else if (flags == PackedMove.QUEEN_CASTLE) {
+      key ^= moveRook(us, source - 4, source - 1);
+      castled |= 1 << us;
+    }
+    final int previousRights = castlingRights;
+    castlingRights = BoardUtils.updateCastlingRights(castlingRights, source, destination);
+    key ^= Zobrist.castlingKey(previousRights) ^ Zobrist.castlingKey(castlingRights);
+    zobristKey = key ^ Zobrist.blackToMoveKey();
+
+    sideToMove = us ^ 1;
+    ply++;
+
+    if (isSquareAttacked(kingSquare(us), ALLIANCES[us ^ 1])) {
+      unmakeMove(move);
+      return false;
+    }
+    return true;
+  }
+
+  // Passes the turn, for null-move pruning. Never legal while in check
+  public void makeNullMove() {
+    if (ply == stateHistory.length) {
+      capturedHistory = Arrays.copyOf(capturedHistory, ply * 2);
+      stateHistory = Arrays.copyOf(stateHistory, ply * 2);
+      keyHistory = Arrays.copyOf(keyHistory, ply * 2);
+    }
+    stateHistory[ply] = packState();
+    keyHistory[ply] = zobristKey;
+    capturedHistory[ply] = EMPTY;
+    zobristKey ^= Zobrist.enPassantKey(enPassantSquare) ^ Zobrist.blackToMoveKey();
+    enPassantSquare = NO_SQUARE;
+    sideToMove ^= 1;
+    ply++;
+  }
+
+  public void unmakeNullMove() {
+    ply--;
+    sideToMove ^= 1;
+    unpackState(stateHistory[ply]);
+    zobristKey = keyHistory[ply];
+  }
+
+  public void unmakeMove(final int move) {
+    ply--;
+    sideToMove ^= 1;
+    final int us = sideToMove;
+    final int source = PackedMove.getSource(move);
+    final int destination = PackedMove.getDestination(move);
+    final int flags = PackedMove.getFlags(move);
+
+    final int movedPiece = PackedMove.isPromotion(move) ? PAWN * 2 + us : mailbox[destination];
+    removePiece(mailbox[destination], destination);
+    addPiece(movedPiece, source);
+
+    final int captured = capturedHistory[ply];
+    if (flags == PackedMove.EN_PASSANT) {
+      addPiece(captured, destination + (us == WHITE ? 8 : -8));
+    } else if (captured != EMPTY) {
+      addPiece(captured, destination);
+    }
+
+    if (flags == PackedMove.KING_CASTLE) {
+      moveRook(us, source + 1, source + 3);
+    } else if (flags == PackedMove.QUEEN_CASTLE) {
+      moveRook(us, source - 1, source - 4);
+    }
+    unpackState(stateHistory[ply]);
+    zobristKey = keyHistory[ply];
+  }
+
+  private int generateMoves(final int us, final int[] moves, final boolean tacticalOnly) {
+    final int them = us ^ 1;
+    final long own = occupancies[us];
+    final long enemy = occupancies[them];
+    final long occupancy = own | enemy;
+    final long targetMask = tacticalOnly ? enemy : ~own;
+    int count = 0;
+
+    long pawns = pieceBitBoards[PAWN * 2 + us];
+    final int forward = us == WHITE ? -8 : 8;
+    while (pawns != 0) {
+      final int source = BitBoardUtils.firstSquare(pawns);
+      pawns &= pawns - 1;
+      final int oneStep = source + forward;
+      final boolean promotes = isPromotionSquare(us, oneStep);
+      if (!BitBoardUtils.isSet(occupancy, oneStep)) {
+        if (promotes) {
+          moves[count++] = promotion(source, oneStep, PackedMove.PROMOTION);
+        } else if (!tacticalOnly) {
+          moves[count++] = PackedMove.create(source, oneStep, PackedMove.QUIET);
+          final int twoSteps = oneStep + forward;
+          if (isPawnStartSquare(us, source) && !BitBoardUtils.isSet(occupancy, twoSteps)) {
+            moves[count++] = PackedMove.create(source, twoSteps, PackedMove.DOUBLE_PAWN_PUSH);
+          }
+        }
+      }
+      final long pawnAttacks = BitBoardUtils.PAWN_ATTACKS[us][source];
+      long captures = pawnAttacks & enemy;
+      while (captures != 0) {
+        final int destination = BitBoardUtils.firstSquare(captures);
+        captures &= captures - 1;
+        moves[count++] =
+            promotes
+                ? promotion(source, destination, PackedMove.PROMOTION_CAPTURE)
+                : PackedMove.create(source, destination, PackedMove.CAPTURE);
+      }
+      if (us == sideToMove
+          && enPassantSquare != NO_SQUARE
+          && BitBoardUtils.isSet(pawnAttacks, enPassantSquare)) {
+        moves[count++] = PackedMove.create(source, enPassantSquare, PackedMove.EN_PASSANT);
+      }
+    }
+
+    long knights = pieceBitBoards[KNIGHT * 2 + us];
+    while (knights != 0) {
+      final int source = BitBoardUtils.firstSquare(knights);
+      knights &= knights - 1;
+      count =
+          addMoves(moves, count, source, BitBoardUtils.KNIGHT_ATTACKS[source] & targetMask, enemy);
+    }
+    long bishops = pieceBitBoards[BISHOP * 2 + us];
+    while (bishops != 0) {
+      final int source = BitBoardUtils.firstSquare(bishops);
+      bishops &= bishops - 1;
+      count =
+          addMoves(
+              moves,
+              count,
+              source,
+              MagicBitBoards.bishopAttacks(source, occupancy) & targetMask,
+              enemy);
+    }
+    long rooks = pieceBitBoards[ROOK * 2 + us];
+    while (rooks != 0) {
+      final int source = BitBoardUtils.firstSquare(rooks);
+      rooks &= rooks - 1;
+      count =
+          addMoves(
+              moves,
+              count,
+              source,
+              MagicBitBoards.rookAttacks(source, occupancy) & targetMask,
+              enemy);
+    }
+    long queens = pieceBitBoards[QUEEN * 2 + us];
+    while (queens != 0) {
+      final int source = BitBoardUtils.firstSquare(queens);
+      queens &= queens - 1;
+      count =
+          addMoves(
+              moves,
+              count,
+              source,
+              MagicBitBoards.queenAttacks(source, occupancy) & targetMask,
+              enemy);
+    }
+    final int king = kingSquare(us);
+    count = addMoves(moves, count, king, BitBoardUtils.KING_ATTACKS[king] & targetMask, enemy);
+
+    return tacticalOnly ? count : addCastles(us, moves, count, occupancy);
+  }
+
+  private int addCastles(final int us, final int[] moves, int count, final long occupancy) {
+    final int kingSideRight =
+        us == WHITE ? BoardUtils.WHITE_KING_SIDE_CASTLE : BoardUtils.BLACK_KING_SIDE_CASTLE;
+    final int queenSideRight =
+        us == WHITE ? BoardUtils.WHITE_QUEEN_SIDE_CASTLE : BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+    if ((castlingRights & (kingSideRight | queenSideRight)) == 0) {
+      return count;
+    }
+    final int king = kingSquare(us);
+    final Alliance opponent = ALLIANCES[us ^ 1];
+    if (isSquareAttacked(king, opponent)) {
+      return count;
+    }
+    if ((castlingRights & kingSideRight) != 0
+        && !BitBoardUtils.isSet(occupancy, king + 1)
+        && !BitBoardUtils.isSet(occupancy, king + 2)
+        && !isSquareAttacked(king + 1, opponent)
+        && !isSquareAttacked(king + 2, opponent)) {
+      moves[count++] = PackedMove.create(king, king + 2, PackedMove.KING_CASTLE);
+    }
+    if ((castlingRights & queenSideRight) != 0
+        && !BitBoardUtils.isSet(occupancy, king - 1)
+        && !BitBoardUtils.isSet(occupancy, king - 2)
+        && !BitBoardUtils.isSet(occupancy, king - 3)
+        && !isSquareAttacked(king - 1, opponent)
+        && !isSquareAttacked(king - 2, opponent)) {
+      moves[count++] = PackedMove.create(king, king - 2, PackedMove.QUEEN_CASTLE);
+    }
+    return count;
+  }
+
+  private static int addMoves(
+      final int[] moves, int count, final int source, long targets, final long enemy) {
+    while (targets != 0) {
+      final int destination = BitBoardUtils.firstSquare(targets);
+      targets &= targets - 1;
+      moves[count++] =
+          PackedMove.create(
+              source,
+              destination,
+              BitBoardUtils.isSet(enemy, destination) ? PackedMove.CAPTURE : PackedMove.QUIET);
+    }
+    return count;
+  }
+
+  // Only queen promotions, matching Pawn.getPromotionPiece on the Board side
+  private static int promotion(final int source, final int destination, final int flags) {
+    return PackedMove.create(source, destination, flags | 3);
+  }
+
+  // Returns the key change so castling can patch the Zobrist key
+  private long moveRook(final int us, final int source, final int destination) {
+    removePiece(ROOK * 2 + us, source);
+    addPiece(ROOK * 2 + us, destination);
+    return Zobrist.pieceKey(ROOK * 2 + us, source) ^ Zobrist.pieceKey(ROOK * 2 + us, destination);
+  }
+
+  private void addPiece(final int piece, final int square) {
+    final long mask = BitBoardUtils.squareMask(square);
+    pieceBitBoards[piece] |= mask;
+    occupancies[piece & 1] |= mask;
+    mailbox[square] = piece;
+    material += PieceSquareTables.material(piece);
+    middlegameScore += PieceSquareTables.middlegame(piece, square);
+    endgameScore += PieceSquareTables.endgame(piece, square);
+    phase += PieceSquareTables.phase(piece);
+  }
+
+  private void removePiece(final int piece, final int square) {
+    final long mask = ~BitBoardUtils.squareMask(square);
+    pieceBitBoards[piece] &= mask;
+    occupancies[piece & 1] &= mask;
+    mailbox[square] = EMPTY;
+    material -= PieceSquareTables.material(piece);
+    middlegameScore -= PieceSquareTables.middlegame(piece, square);
+    endgameScore -= PieceSquareTables.endgame(piece, square);
+    phase -= PieceSquareTables.phase(piece);
+  }
+
+  private int kingSquare(final int side) {
+    return BitBoardUtils.firstSquare(pieceBitBoards[KING * 2 + side]);
+  }
+
+  private int packState() {
+    return castlingRights | (castled << 4) | ((enPassantSquare + 1) << 6);
+  }
+
+  private void unpackState(final int state) {
+    castlingRights = state & 0xF;
+    castled = (state >>> 4) & 0x3;
+    enPassantSquare = (state >>> 6) - 1;
+  }
+
+  private static boolean isPromotionSquare(final int side, final int square) {
+    return side == WHITE ? BoardUtils.EIGHTH_RANK[square] : BoardUtils.FIRST_RANK[square];
+  }
+
+  private static boolean isPawnStartSquare(final int side, final int square) {
+    return side == WHITE ? BoardUtils.SECOND_RANK[square] : BoardUtils.SEVENTH_RANK[square];
+  }
+
+  private static int pieceCode(final Piece piece) {
+    return BitBoardUtils.bitBoardIndex(piece.getPieceType(), piece.getPieceAlliance());
+  }
+
+  // Board remembers the pawn that just jumped; the search wants the square it jumped over
+  private static int enPassantSquare(final Pawn enPassantPawn) {
+    if (enPassantPawn == null) {
+      return NO_SQUARE;
+    }
+    return enPassantPawn.getPiecePosition()
+        - enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+  }
+}
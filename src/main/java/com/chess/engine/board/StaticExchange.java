@@ -0,0 +1,125 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece.PieceType;
+
+/*
+Static exchange evaluation: the material the side making a move is left with once both sides
+have captured back and forth on its destination square for as long as that pays, each always
+with its least valuable attacker. Sliders lined up behind a capturer join in once it has left.
+Pins and checks are ignored, as is usual for SEE.
+ */
+public final class StaticExchange {
+  private static final PieceType[] PIECE_TYPES = PieceType.values();
+  private static final PieceType[] CAPTURE_ORDER = {
+    PieceType.PAWN,
+    PieceType.KNIGHT,
+    PieceType.BISHOP,
+    PieceType.ROOK,
+    PieceType.QUEEN,
+    PieceType.KING
+  };
+  private static final int MAX_EXCHANGES = 32;
+
+  private StaticExchange() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  // promotionType is null unless the move promotes
+  public static int evaluate(
+      final long[] pieceBitBoards,
+      final int source,
+      final int destination,
+      final PieceType promotionType) {
+    final int moverIndex = bitBoardIndexAt(pieceBitBoards, source);
+    if (moverIndex < 0) {
+      throw new RuntimeException("No piece on " + BoardUtils.getPositionAtCoordinate(source));
+    }
+    long occupancy = 0;
+    for (final long bitBoard : pieceBitBoards) {
+      occupancy |= bitBoard;
+    }
+    final int[] gain = new int[MAX_EXCHANGES];
+    final int capturedIndex = bitBoardIndexAt(pieceBitBoards, destination);
+    if (capturedIndex >= 0) {
+      gain[0] = value(capturedIndex);
+    } else if (PIECE_TYPES[moverIndex >> 1] == PieceType.PAWN
+        && source % BoardUtils.NUM_TILES_PER_ROW != destination % BoardUtils.NUM_TILES_PER_ROW) {
+      // En passant: the captured pawn stands beside the source square
+      gain[0] = PieceType.PAWN.getPieceValue();
+      occupancy &=
+          ~BitBoardUtils.squareMask(
+              source
+                  - source % BoardUtils.NUM_TILES_PER_ROW
+                  + destination % BoardUtils.NUM_TILES_PER_ROW);
+    }
+    int valueOnSquare = value(moverIndex);
+    if (promotionType != null) {
+      gain[0] += promotionType.getPieceValue() - PieceType.PAWN.getPieceValue();
+      valueOnSquare = promotionType.getPieceValue();
+    }
+    occupancy &= ~BitBoardUtils.squareMask(source);
+
+    int side = moverIndex & 1;
+    int depth = 0;
+    while (depth + 1 < MAX_EXCHANGES) {
+      depth++;
+      side ^= 1;
+      // What capturing now would leave this side with; kept only if it has something to take with
+      gain[depth] = valueOnSquare - gain[depth - 1];
+      if (Math.max(-gain[depth - 1], gain[depth]) < 0) {
+        break;
+      }
+      final long attackers =
+          BitBoardUtils.attackersTo(pieceBitBoards, occupancy, destination) & occupancy;
+      final int attackerIndex = leastValuableAttacker(pieceBitBoards, attackers, side);
+      if (attackerIndex < 0) {
+        break;
+      }
+      final long attacker = Long.lowestOneBit(attackers & pieceBitBoards[attackerIndex]);
+      // A king may only take when nothing defends the square any more
+      if (PIECE_TYPES[attackerIndex >> 1] == PieceType.KING
+          && (attackers & ~attacker & occupancyOf(pieceBitBoards, side ^ 1)) != 0) {
+        break;
+      }
+      occupancy &= ~attacker;
+      valueOnSquare = value(attackerIndex);
+    }
+    // Either side may decline to recapture, so each keeps the better of stopping and going on
+    while (--depth > 0) {
+      gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+    }
+    return gain[0];
+  }
+
+  private static int leastValuableAttacker(
+      final long[] pieceBitBoards, final long attackers, final int side) {
+    for (final PieceType pieceType : CAPTURE_ORDER) {
+      final int index = pieceType.ordinal() * 2 + side;
+      if ((attackers & pieceBitBoards[index]) != 0) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private static int bitBoardIndexAt(final long[] pieceBitBoards, final int tileCoordinate) {
+    for (int i = 0; i < pieceBitBoards.length; i++) {
+      if (BitBoardUtils.isSet(pieceBitBoards[i], tileCoordinate)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static long occupancyOf(final long[] pieceBitBoards, final int side) {
+    long occupancy = 0;
+    for (int i = side; i < pieceBitBoards.length; i += 2) {
+      occupancy |= pieceBitBoards[i];
+    }
+    return occupancy;
+  }
+
+  private static int value(final int bitBoardIndex) {
+    return PIECE_TYPES[bitBoardIndex >> 1].getPieceValue();
+  }
+}
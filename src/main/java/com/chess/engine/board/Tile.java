@@ -1,34 +1,48 @@
 package com.chess.engine.board;
 
 import com.chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableMap;
-
-import java.util.HashMap;
-import java.util.Map;
+import com.chess.engine.pieces.PieceCache;
 
 public abstract class Tile {
   protected final int tileCoordinate;
-  private static final Map<Integer, EmptyTile>
+  private static final EmptyTile[]
       EMPTY_TILES_CACHE // Immutable. Commonly used values are cached amd fetched when needed
       = createAllPossibleemptyTiles();
+  // One per shared piece, at the index PieceCache gives it
+  private static final OccupiedTile[] OCCUPIED_TILES_CACHE = createAllPossibleOccupiedTiles();
 
   private Tile(int tileCoordinate) {
     this.tileCoordinate = tileCoordinate;
   }
 
-  private static Map<Integer, EmptyTile> createAllPossibleemptyTiles() {
-    final Map<Integer, EmptyTile> emptyTileMap = new HashMap<>();
+  private static EmptyTile[] createAllPossibleemptyTiles() {
+    final EmptyTile[] emptyTiles = new EmptyTile[BoardUtils.NUM_TILES];
     for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-      emptyTileMap.put(i, new EmptyTile(i));
+      emptyTiles[i] = new EmptyTile(i);
     }
-    return ImmutableMap.copyOf(
-        emptyTileMap); // Collections.unmodifiableMap(emptyTileMap) also works
+    return emptyTiles;
+  }
+
+  private static OccupiedTile[] createAllPossibleOccupiedTiles() {
+    final OccupiedTile[] occupiedTiles = new OccupiedTile[PieceCache.NUM_PIECES];
+    for (int i = 0; i < PieceCache.NUM_PIECES; i++) {
+      final Piece piece = PieceCache.get(i);
+      if (piece != null) {
+        occupiedTiles[i] = new OccupiedTile(piece.getPiecePosition(), piece);
+      }
+    }
+    return occupiedTiles;
   }
 
   public static Tile createTile(final int tileCoordinate, final Piece piece) {
-    return (piece != null)
-        ? new OccupiedTile(tileCoordinate, piece)
-        : new EmptyTile(tileCoordinate);
+    if (piece == null) {
+      return EMPTY_TILES_CACHE[tileCoordinate];
+    }
+    final OccupiedTile tile = OCCUPIED_TILES_CACHE[PieceCache.indexOf(piece)];
+    // Boards only hold shared pieces; anything else gets a tile of its own
+    return tile.getPiece() == piece && tileCoordinate == piece.getPiecePosition()
+        ? tile
+        : new OccupiedTile(tileCoordinate, piece);
   }
 
   public abstract boolean isTileOccupied();
@@ -0,0 +1,88 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+
+/*
+64-bit position keys: the XOR of one random number per (piece, square), one per castling
+rights set, one per en-passant file and one for black to move. Moves patch the key by
+XOR-ing out what changed instead of rehashing the whole board.
+ */
+public class Zobrist {
+  private static final long[][] PIECE_KEYS =
+      new long[BitBoardUtils.NUM_BITBOARDS][BoardUtils.NUM_TILES];
+  private static final long[] CASTLING_KEYS = new long[BoardUtils.ALL_CASTLING_RIGHTS + 1];
+  private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+  private static final long BLACK_TO_MOVE_KEY;
+
+  static {
+    // splitmix64 with a fixed seed so keys are stable between runs
+    long seed = 0x9E3779B97F4A7C15L;
+    for (final long[] pieceKeys : PIECE_KEYS) {
+      for (int i = 0; i < pieceKeys.length; i++) {
+        pieceKeys[i] = mix(seed += 0x9E3779B97F4A7C15L);
+      }
+    }
+    // no rights at all hashes to zero, so a board without castling pays nothing
+    for (int i = 1; i < CASTLING_KEYS.length; i++) {
+      CASTLING_KEYS[i] = mix(seed += 0x9E3779B97F4A7C15L);
+    }
+    for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+      EN_PASSANT_KEYS[i] = mix(seed += 0x9E3779B97F4A7C15L);
+    }
+    BLACK_TO_MOVE_KEY = mix(seed + 0x9E3779B97F4A7C15L);
+  }
+
+  private Zobrist() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static long pieceKey(final int bitBoardIndex, final int tileCoordinate) {
+    return PIECE_KEYS[bitBoardIndex][tileCoordinate];
+  }
+
+  public static long pieceKey(final Piece piece) {
+    return pieceKey(
+        BitBoardUtils.bitBoardIndex(piece.getPieceType(), piece.getPieceAlliance()),
+        piece.getPiecePosition());
+  }
+
+  public static long castlingKey(final int castlingRights) {
+    return CASTLING_KEYS[castlingRights];
+  }
+
+  public static long enPassantKey(final int tileCoordinate) {
+    return tileCoordinate < 0 ? 0 : EN_PASSANT_KEYS[tileCoordinate % BoardUtils.NUM_TILES_PER_ROW];
+  }
+
+  public static long enPassantKey(final Pawn enPassantPawn) {
+    return enPassantPawn == null ? 0 : enPassantKey(enPassantPawn.getPiecePosition());
+  }
+
+  public static long blackToMoveKey() {
+    return BLACK_TO_MOVE_KEY;
+  }
+
+  // Full recomputation; only needed for boards that did not come from a Move
+  public static long computeKey(final Board board) {
+    long key = 0;
+    for (final Piece piece : board.getWhitePieces()) {
+      key ^= pieceKey(piece);
+    }
+    for (final Piece piece : board.getBlackPieces()) {
+      key ^= pieceKey(piece);
+    }
+    key ^= castlingKey(board.getCastlingRights());
+    key ^= enPassantKey(board.getEnPassantPawn());
+    if (board.currentPlayer().getAlliance().isBlack()) {
+      key ^= BLACK_TO_MOVE_KEY;
+    }
+    return key;
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -5,7 +5,6 @@ import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Tile;
-import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -65,7 +64,7 @@ public class King extends Piece {
         }
       }
     }
-    return ImmutableList.copyOf(legalMoves);
+    return legalMoves;
   }
 
   public boolean isCastled() {
@@ -74,14 +73,8 @@ public class King extends Piece {
 
   @Override
   public Piece movePiece(Move move) {
-    final Piece movedPiece = move.getMovedPiece();
-    return new King(
-        this.pieceAlliance,
-        move.getDestinationCoordinate(),
-        false,
-        move.isCastlingMove(),
-        false,
-        false);
+    return PieceCache.getKing(
+        this.pieceAlliance, move.getDestinationCoordinate(), false, move.isCastlingMove());
   }
 
   @Override
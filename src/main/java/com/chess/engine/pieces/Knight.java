@@ -5,7 +5,6 @@ import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Tile;
-import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,13 +47,13 @@ public class Knight extends Piece {
       }
     }
 
-    return ImmutableList.copyOf(legalMoves);
+    return legalMoves;
   }
 
   @Override
   public Piece movePiece(Move move) {
-    final Piece movedPiece = move.getMovedPiece();
-    return new Knight(move.getDestinationCoordinate(), movedPiece.getPieceAlliance());
+    return PieceCache.get(
+        PieceType.KNIGHT, this.pieceAlliance, move.getDestinationCoordinate(), false);
   }
 
   @Override
@@ -5,7 +5,6 @@ import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Tile;
-import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -48,17 +47,17 @@ public class Pawn extends Piece {
                 || BoardUtils.SECOND_RANK[piecePosition] & this.pieceAlliance.isWhite())) {
 
           Tile behindDestinationCoordinateTile =
-              board.getTile(piecePosition + (this.pieceAlliance.getDirection() * forwardMove));
+              board.getTile(piecePosition + (this.pieceAlliance.getDirection() * 8));
           Tile destinationCoordinateTile = board.getTile(destinationCoordinate);
           if (!behindDestinationCoordinateTile.isTileOccupied()
               && !destinationCoordinateTile.isTileOccupied()) {
             legalMoves.add(new Move.PawnJump(board, this, destinationCoordinate));
           }
-        } else if (forwardMove == 7) {
-          if ((destinationTile.isTileOccupied()
-                  && pieceAtTile.getPieceAlliance() != this.pieceAlliance)
-              && ((this.pieceAlliance.isWhite() && !BoardUtils.EIGHTH_COLUMN[piecePosition])
-                  || (this.pieceAlliance.isBlack() && !BoardUtils.FIRST_COLUMN[piecePosition]))) {
+        } else if (forwardMove == 7
+            && ((this.pieceAlliance.isWhite() && !BoardUtils.EIGHTH_COLUMN[piecePosition])
+                || (this.pieceAlliance.isBlack() && !BoardUtils.FIRST_COLUMN[piecePosition]))) {
+          if (destinationTile.isTileOccupied()
+              && pieceAtTile.getPieceAlliance() != this.pieceAlliance) {
             if (this.pieceAlliance.isPawnPromotionSquare(destinationCoordinate)) {
               legalMoves.add(
                   new Move.PawnPromotion(
@@ -76,11 +75,11 @@ public class Pawn extends Piece {
                       board, this, destinationCoordinate, pieceOnCandidate));
             }
           }
-        } else if (forwardMove == 9) {
-          if ((destinationTile.isTileOccupied()
-                  && pieceAtTile.getPieceAlliance() != this.pieceAlliance)
-              && ((this.pieceAlliance.isWhite() && !BoardUtils.FIRST_COLUMN[piecePosition])
-                  || (this.pieceAlliance.isBlack() && !BoardUtils.EIGHTH_COLUMN[piecePosition]))) {
+        } else if (forwardMove == 9
+            && ((this.pieceAlliance.isWhite() && !BoardUtils.FIRST_COLUMN[piecePosition])
+                || (this.pieceAlliance.isBlack() && !BoardUtils.EIGHTH_COLUMN[piecePosition]))) {
+          if (destinationTile.isTileOccupied()
+              && pieceAtTile.getPieceAlliance() != this.pieceAlliance) {
             if (this.pieceAlliance.isPawnPromotionSquare(destinationCoordinate)) {
               legalMoves.add(
                   new Move.PawnPromotion(
@@ -101,16 +100,16 @@ public class Pawn extends Piece {
         }
       }
     }
-    return ImmutableList.copyOf(legalMoves);
+    return legalMoves;
   }
 
   @Override
   public Piece movePiece(Move move) {
-    final Piece movedPiece = move.getMovedPiece();
-    return new Pawn(move.getDestinationCoordinate(), movedPiece.getPieceAlliance());
+    return PieceCache.get(
+        PieceType.PAWN, this.pieceAlliance, move.getDestinationCoordinate(), false);
   }
 
   public Piece getPromotionPiece() {
-    return new Queen(this.pieceAlliance, this.piecePosition, false);
+    return PieceCache.get(PieceType.QUEEN, this.pieceAlliance, this.piecePosition, false);
   }
 }
@@ -1,10 +1,13 @@
 package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardUtils;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public abstract class Piece {
   protected final int piecePosition;
@@ -31,6 +34,24 @@ public abstract class Piece {
 
   public abstract Piece movePiece(Move move);
 
+  // Emits a quiet move or a capture for every square in the attack set not held by our side
+  protected List<Move> createMajorMoves(final Board board, final long attackSet) {
+    long targets = attackSet & ~board.getOccupancy(this.pieceAlliance);
+    final List<Move> legalMoves = new ArrayList<>(Long.bitCount(targets));
+    while (targets != 0) {
+      final int destinationCoordinate = BitBoardUtils.firstSquare(targets);
+      targets &= targets - 1;
+      final Piece pieceAtDestination = board.getPiece(destinationCoordinate);
+      if (pieceAtDestination == null) {
+        legalMoves.add(new Move.MajorMove(board, this, destinationCoordinate));
+      } else {
+        legalMoves.add(
+            new Move.MajorAttackMove(board, this, destinationCoordinate, pieceAtDestination));
+      }
+    }
+    return legalMoves;
+  }
+
   public boolean isFirstMove() {
     return isFirstMove;
   }
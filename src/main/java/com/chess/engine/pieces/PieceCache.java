@@ -0,0 +1,109 @@
+package com.chess.engine.pieces;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.pieces.Piece.PieceType;
+
+/*
+Every piece that can stand on the board, built once up front. Pieces are immutable, so all
+boards share these instances and a move looks up the piece for its new square instead of
+allocating one. Kings come in castled and uncastled versions, since that is part of their state.
+ */
+public final class PieceCache {
+  private static final PieceType[] PIECE_TYPES = PieceType.values();
+  private static final Alliance[] ALLIANCES = Alliance.values();
+
+  public static final int NUM_PIECES =
+      2 * PIECE_TYPES.length * ALLIANCES.length * BoardUtils.NUM_TILES * 2;
+
+  private static final Piece[] PIECES = createAllPieces();
+
+  private PieceCache() {
+    throw new RuntimeException("No instantiation");
+  }
+
+  public static Piece get(
+      final PieceType pieceType,
+      final Alliance alliance,
+      final int piecePosition,
+      final boolean isFirstMove) {
+    return PIECES[index(pieceType, alliance, piecePosition, isFirstMove, false)];
+  }
+
+  public static King getKing(
+      final Alliance alliance,
+      final int piecePosition,
+      final boolean isFirstMove,
+      final boolean isCastled) {
+    return (King) PIECES[index(PieceType.KING, alliance, piecePosition, isFirstMove, isCastled)];
+  }
+
+  // Null at indices no piece uses
+  public static Piece get(final int index) {
+    return PIECES[index];
+  }
+
+  // The shared instance standing in for a piece built by hand
+  public static Piece intern(final Piece piece) {
+    return PIECES[indexOf(piece)];
+  }
+
+  // Distinct for every shared instance, for tables kept alongside this one
+  public static int indexOf(final Piece piece) {
+    return index(
+        piece.getPieceType(),
+        piece.getPieceAlliance(),
+        piece.getPiecePosition(),
+        piece.isFirstMove(),
+        piece.getPieceType().isKing() && ((King) piece).isCastled());
+  }
+
+  private static int index(
+      final PieceType pieceType,
+      final Alliance alliance,
+      final int piecePosition,
+      final boolean isFirstMove,
+      final boolean isCastled) {
+    final int kind = ((isCastled ? 1 : 0) * PIECE_TYPES.length + pieceType.ordinal()) * 2;
+    return ((kind + alliance.ordinal()) * BoardUtils.NUM_TILES + piecePosition) * 2
+        + (isFirstMove ? 1 : 0);
+  }
+
+  private static Piece[] createAllPieces() {
+    final Piece[] pieces = new Piece[NUM_PIECES];
+    for (final Alliance alliance : ALLIANCES) {
+      for (int position = 0; position < BoardUtils.NUM_TILES; position++) {
+        for (final boolean isFirstMove : new boolean[] {false, true}) {
+          for (final PieceType pieceType : PIECE_TYPES) {
+            pieces[index(pieceType, alliance, position, isFirstMove, false)] =
+                createPiece(pieceType, alliance, position, isFirstMove);
+          }
+          pieces[index(PieceType.KING, alliance, position, isFirstMove, true)] =
+              new King(alliance, position, isFirstMove, true, false, false);
+        }
+      }
+    }
+    return pieces;
+  }
+
+  private static Piece createPiece(
+      final PieceType pieceType,
+      final Alliance alliance,
+      final int position,
+      final boolean isFirstMove) {
+    switch (pieceType) {
+      case PAWN:
+        return new Pawn(alliance, position, isFirstMove);
+      case ROOK:
+        return new Rook(alliance, position, isFirstMove);
+      case KNIGHT:
+        return new Knight(alliance, position, isFirstMove);
+      case BISHOP:
+        return new Bishop(alliance, position, isFirstMove);
+      case QUEEN:
+        return new Queen(alliance, position, isFirstMove);
+      default:
+        return new King(alliance, position, isFirstMove, false, isFirstMove, isFirstMove);
+    }
+  }
+}
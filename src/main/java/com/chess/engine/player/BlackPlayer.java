@@ -1,22 +1,26 @@
 package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardUtils;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 public class BlackPlayer extends Player {
+  // Squares between the king and each rook, which must be empty to castle
+  private static final long KING_SIDE_PATH =
+      BitBoardUtils.squareMask(5) | BitBoardUtils.squareMask(6);
+  private static final long QUEEN_SIDE_PATH =
+      BitBoardUtils.squareMask(1) | BitBoardUtils.squareMask(2) | BitBoardUtils.squareMask(3);
 
-  public BlackPlayer(
-      final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentMoves) {
-    super(board, legalMoves, opponentMoves);
+  public BlackPlayer(final Board board) {
+    super(board);
   }
 
   @Override
@@ -35,50 +39,28 @@ public class BlackPlayer extends Player {
   }
 
   @Override
-  protected Collection<Move> calculateKingCastles(
-      final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
-    final List<Move> kingCastles = new ArrayList<>();
-    if (playerKing.isFirstMove() && !this.isInCheck()) {
-      if (!board.getTile(5).isTileOccupied() && !board.getTile(6).isTileOccupied()) {
-        final Tile rookTile = board.getTile(7);
-        if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-          if (Player.calculateAttacksOnTile(5, opponentsLegals).isEmpty()
-              && Player.calculateAttacksOnTile(6, opponentsLegals).isEmpty()
-              && rookTile.getPiece().getPieceType().isRook()) {
-            kingCastles.add(
-                new Move.KingSideCastleMove(
-                    board,
-                    playerKing,
-                    6,
-                    (Rook) rookTile.getPiece(),
-                    rookTile.getTileCoordinate(),
-                    5));
-          }
-        }
-      }
-
-      if (!board.getTile(3).isTileOccupied()
-          && !board.getTile(2).isTileOccupied()
-          && !board.getTile(1).isTileOccupied()) {
-        final Tile rookTile = board.getTile(0);
-        if (rookTile.isTileOccupied()
-            && rookTile.getPiece().isFirstMove()
-            && Player.calculateAttacksOnTile(2, opponentsLegals).isEmpty()
-            && Player.calculateAttacksOnTile(3, opponentsLegals).isEmpty()
-            && rookTile.getPiece().getPieceType().isRook()) {
-          kingCastles.add(
-              new Move.QueenSideCastleMove(
-                  board,
-                  playerKing,
-                  2,
-                  (Rook) rookTile.getPiece(),
-                  rookTile.getTileCoordinate(),
-                  3));
-        }
-      }
+  protected Collection<Move> calculateKingCastles() {
+    final int castlingRights = board.getCastlingRights();
+    final long occupancy = board.getOccupancy();
+    final List<Move> kingCastles = new ArrayList<>(2);
+    // A right means the king and that rook still stand unmoved on their home squares
+    if ((castlingRights & BoardUtils.BLACK_KING_SIDE_CASTLE) != 0
+        && (occupancy & KING_SIDE_PATH) == 0
+        && !isInCheck()
+        && !board.isSquareAttacked(5, Alliance.WHITE)
+        && !board.isSquareAttacked(6, Alliance.WHITE)) {
+      kingCastles.add(
+          new Move.KingSideCastleMove(board, playerKing, 6, (Rook) board.getPiece(7), 7, 5));
     }
-
-    return ImmutableList.copyOf(kingCastles);
+    if ((castlingRights & BoardUtils.BLACK_QUEEN_SIDE_CASTLE) != 0
+        && (occupancy & QUEEN_SIDE_PATH) == 0
+        && !isInCheck()
+        && !board.isSquareAttacked(3, Alliance.WHITE)
+        && !board.isSquareAttacked(2, Alliance.WHITE)) {
+      kingCastles.add(
+          new Move.QueenSideCastleMove(board, playerKing, 2, (Rook) board.getPiece(0), 0, 3));
+    }
+    return kingCastles;
   }
 
   @Override
@@ -0,0 +1,41 @@
+package com.chess.engine.player;
+
+import com.chess.engine.board.Board;
+
+public enum GameStatus {
+  ONGOING {
+    @Override
+    public boolean isGameOver() {
+      return false;
+    }
+  },
+  CHECKMATE {
+    @Override
+    public boolean isGameOver() {
+      return true;
+    }
+  },
+  STALEMATE {
+    @Override
+    public boolean isGameOver() {
+      return true;
+    }
+  },
+  DRAW {
+    @Override
+    public boolean isGameOver() {
+      return true;
+    }
+  };
+
+  public abstract boolean isGameOver();
+
+  // Use Board.getGameStatus(), which keeps the answer for the position
+  public static GameStatus calculate(final Board board) {
+    final Player player = board.currentPlayer();
+    if (!player.hasEscapeMoves()) {
+      return player.isInCheck() ? CHECKMATE : STALEMATE;
+    }
+    return board.hasInsufficientMaterial() ? DRAW : ONGOING;
+  }
+}
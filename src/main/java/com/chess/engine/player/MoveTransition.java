@@ -20,6 +20,10 @@ public class MoveTransition {
     return moveStatus;
   }
 
+  public Move getMove() {
+    return move;
+  }
+
   public Board getBoard() {
     return transitionBoard;
   }
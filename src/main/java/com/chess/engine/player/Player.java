@@ -1,6 +1,7 @@
 package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardUtils;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
 import com.chess.engine.pieces.King;
@@ -8,59 +9,43 @@ import com.chess.engine.pieces.Piece;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public abstract class Player {
   protected final Board board;
   protected final King playerKing;
-  protected final Collection<Move> legalMoves;
-  private final boolean isInCheck;
 
-  public Player(Board board, Collection<Move> legalMoves, Collection<Move> opponentMoves) {
+  // Memoized on first access; racing threads compute the same immutable values
+  private volatile Collection<Move> legalMoves;
+
+  public Player(final Board board) {
     this.board = board;
     this.playerKing = establishKing();
-    this.isInCheck =
-        !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
-    this.legalMoves =
-        ImmutableList.copyOf(
-            Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-  }
-
-  protected static Collection<Move> calculateAttacksOnTile(
-      final int piecePosition, final Collection<Move> opponentMoves) {
-
-    final List<Move> allAtksOnTile = new ArrayList<>();
-    for (Move move : opponentMoves) {
-      if (move.getDestinationCoordinate() == piecePosition) {
-        allAtksOnTile.add(move);
-      }
-    }
-    return ImmutableList.copyOf(allAtksOnTile);
   }
 
   private King establishKing() throws RuntimeException {
-    for (Piece piece : getActivePieces()) {
-      if (piece.getPieceType().isKing()) return (King) piece;
-    }
-    throw new RuntimeException("Player does not have a King");
+    final long kingBitBoard = board.getPieceBitBoard(Piece.PieceType.KING, getAlliance());
+    if (kingBitBoard == 0) throw new RuntimeException("Player does not have a King");
+    return (King) board.getPiece(BitBoardUtils.firstSquare(kingBitBoard));
   }
 
   public boolean isMoveLegal(Move move) {
-    return legalMoves.contains(move);
+    return getLegalMoves().contains(move);
   }
 
   public boolean isInCheck() {
-    return isInCheck;
+    return board.isSquareAttacked(this.playerKing.getPiecePosition(), getOpponent().getAlliance());
   }
 
+  // Only the side to move can be mated or stalemated
   public boolean isInCheckMate() {
-    return isInCheck && !hasEscapeMoves();
+    return board.currentPlayer() == this
+        && isInCheck()
+        && board.getGameStatus() == GameStatus.CHECKMATE;
   }
 
-  protected boolean hasEscapeMoves() {
-    for (final Move move : legalMoves) {
+  boolean hasEscapeMoves() {
+    for (final Move move : getLegalMoves()) {
       final MoveTransition transition = makeMove(move);
       if (transition.getMoveStatus().isDone()) return true;
     }
@@ -68,11 +53,11 @@ public abstract class Player {
   }
 
   public boolean isInStaleMate() {
-    return !isInCheck && !hasEscapeMoves();
+    return board.currentPlayer() == this && board.getGameStatus() == GameStatus.STALEMATE;
   }
 
   public boolean isCastled(Move move) {
-    return legalMoves.contains(move);
+    return getLegalMoves().contains(move);
   }
 
   public MoveTransition makeMove(final Move move) {
@@ -80,12 +65,8 @@ public abstract class Player {
       return new MoveTransition(board, move, MoveStatus.ILLEGAL_MOVE);
     }
     final Board transitionBoard = move.execute();
-    final Collection<Move> attacksOnKing =
-        Player.calculateAttacksOnTile(
-            transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-            transitionBoard.currentPlayer().getLegalMoves());
-
-    if (!attacksOnKing.isEmpty()) {
+    // The side that just moved is the opponent on the new board
+    if (transitionBoard.currentPlayer().getOpponent().isInCheck()) {
       return new MoveTransition(board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
     }
 
@@ -93,11 +74,18 @@ public abstract class Player {
   }
 
   public Collection<Move> getLegalMoves() {
-    return legalMoves;
-  }
-
-  private Piece getPlayerKing() {
-    return playerKing;
+    Collection<Move> moves = this.legalMoves;
+    if (moves == null) {
+      final Collection<Move> standardMoves = board.getStandardLegalMoves(getAlliance());
+      final Collection<Move> kingCastles = calculateKingCastles();
+      // Most positions have no castle, and then the board's list is used as it is
+      moves =
+          kingCastles.isEmpty()
+              ? standardMoves
+              : ImmutableList.copyOf(Iterables.concat(standardMoves, kingCastles));
+      this.legalMoves = moves;
+    }
+    return moves;
   }
 
   public abstract Collection<Piece> getActivePieces();
@@ -106,8 +94,8 @@ public abstract class Player {
 
   public abstract Player getOpponent();
 
-  protected abstract Collection<Move> calculateKingCastles(
-      Collection<Move> playerLegals, Collection<Move> opponentsLegals);
+  // Castles whose king path is empty and not attacked by the opponent
+  protected abstract Collection<Move> calculateKingCastles();
 
   public boolean isCastled() {
     return this.playerKing.isCastled();
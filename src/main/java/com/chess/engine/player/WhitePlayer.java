@@ -1,22 +1,26 @@
 package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardUtils;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 public class WhitePlayer extends Player {
+  // Squares between the king and each rook, which must be empty to castle
+  private static final long KING_SIDE_PATH =
+      BitBoardUtils.squareMask(61) | BitBoardUtils.squareMask(62);
+  private static final long QUEEN_SIDE_PATH =
+      BitBoardUtils.squareMask(57) | BitBoardUtils.squareMask(58) | BitBoardUtils.squareMask(59);
 
-  public WhitePlayer(
-      final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentMoves) {
-    super(board, legalMoves, opponentMoves);
+  public WhitePlayer(final Board board) {
+    super(board);
   }
 
   @Override
@@ -35,50 +39,28 @@ public class WhitePlayer extends Player {
   }
 
   @Override
-  protected Collection<Move> calculateKingCastles(
-      final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
-    final List<Move> kingCastles = new ArrayList<>();
-    if (this.playerKing.isFirstMove() && !this.isInCheck()) {
-      if (!board.getTile(61).isTileOccupied() && !board.getTile(62).isTileOccupied()) {
-        final Tile rookTile = board.getTile(63);
-        if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-          if (Player.calculateAttacksOnTile(61, opponentsLegals).isEmpty()
-              && Player.calculateAttacksOnTile(62, opponentsLegals).isEmpty()
-              && rookTile.getPiece().getPieceType().isRook()) {
-            kingCastles.add(
-                new Move.KingSideCastleMove(
-                    board,
-                    playerKing,
-                    62,
-                    (Rook) rookTile.getPiece(),
-                    rookTile.getTileCoordinate(),
-                    61));
-          }
-        }
-      }
-
-      if (!board.getTile(59).isTileOccupied()
-          && !board.getTile(58).isTileOccupied()
-          && !board.getTile(57).isTileOccupied()) {
-        final Tile rookTile = board.getTile(56);
-        if (rookTile.isTileOccupied()
-            && rookTile.getPiece().isFirstMove()
-            && Player.calculateAttacksOnTile(58, opponentsLegals).isEmpty()
-            && Player.calculateAttacksOnTile(59, opponentsLegals).isEmpty()
-            && rookTile.getPiece().getPieceType().isRook()) {
-          kingCastles.add(
-              new Move.QueenSideCastleMove(
-                  board,
-                  playerKing,
-                  58,
-                  (Rook) rookTile.getPiece(),
-                  rookTile.getTileCoordinate(),
-                  59));
-        }
-      }
+  protected Collection<Move> calculateKingCastles() {
+    final int castlingRights = board.getCastlingRights();
+    final long occupancy = board.getOccupancy();
+    final List<Move> kingCastles = new ArrayList<>(2);
+    // A right means the king and that rook still stand unmoved on their home squares
+    if ((castlingRights & BoardUtils.WHITE_KING_SIDE_CASTLE) != 0
+        && (occupancy & KING_SIDE_PATH) == 0
+        && !isInCheck()
+        && !board.isSquareAttacked(61, Alliance.BLACK)
+        && !board.isSquareAttacked(62, Alliance.BLACK)) {
+      kingCastles.add(
+          new Move.KingSideCastleMove(board, playerKing, 62, (Rook) board.getPiece(63), 63, 61));
     }
-
-    return ImmutableList.copyOf(kingCastles);
+    if ((castlingRights & BoardUtils.WHITE_QUEEN_SIDE_CASTLE) != 0
+        && (occupancy & QUEEN_SIDE_PATH) == 0
+        && !isInCheck()
+        && !board.isSquareAttacked(59, Alliance.BLACK)
+        && !board.isSquareAttacked(58, Alliance.BLACK)) {
+      kingCastles.add(
+          new Move.QueenSideCastleMove(board, playerKing, 58, (Rook) board.getPiece(56), 56, 59));
+    }
+    return kingCastles;
   }
 
   @Override
@@ -0,0 +1,69 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps the statistics and listener plumbing out of the individual searches
+public abstract class AbstractMoveStrategy implements MoveStrategy {
+  protected SearchStats searchStats = new SearchStats();
+  private SearchListener searchListener = SearchListener.NONE;
+  private Board rootBoard;
+
+  @Override
+  public void setSearchListener(final SearchListener searchListener) {
+    this.searchListener = searchListener == null ? SearchListener.NONE : searchListener;
+  }
+
+  @Override
+  public SearchStats getSearchStats() {
+    return this.searchStats;
+  }
+
+  // Replays the packed line on Boards, stopping early should a move not apply
+  @Override
+  public List<Move> getPrincipalVariation() {
+    final List<Move> principalVariation = new ArrayList<>();
+    final List<SearchStats.DepthStats> depthStats = this.searchStats.getDepthStats();
+    if (depthStats.isEmpty()) {
+      return principalVariation;
+    }
+    Board board = this.rootBoard;
+    for (final int packedMove : depthStats.get(depthStats.size() - 1).getPrincipalVariation()) {
+      final Move move = Move.MoveFactory.createMove(board, packedMove);
+      final MoveTransition transition = board.currentPlayer().makeMove(move);
+      if (!transition.getMoveStatus().isDone()) {
+        break;
+      }
+      principalVariation.add(move);
+      board = transition.getTransitionBoard();
+    }
+    return principalVariation;
+  }
+
+  protected void startSearch(final Board board) {
+    this.searchStats = new SearchStats();
+    this.rootBoard = board;
+  }
+
+  // Score for the side to move at the root
+  protected void depthCompleted(final int depth, final int score, final int[] principalVariation) {
+    this.searchStats.depthCompleted(depth, score, principalVariation);
+    this.searchListener.depthCompleted(this.searchStats);
+  }
+
+  // For searches that only know the best move, not the line after it
+  protected void depthCompleted(final int depth, final int score, final int bestMove) {
+    depthCompleted(
+        depth, score, bestMove == PackedMove.NO_MOVE ? new int[0] : new int[] {bestMove});
+  }
+
+  protected void searchCompleted() {
+    this.searchStats.searchCompleted();
+    this.searchListener.searchCompleted(this.searchStats);
+  }
+}
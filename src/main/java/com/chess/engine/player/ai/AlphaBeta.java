@@ -0,0 +1,454 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.GameStatus;
+
+import java.util.Arrays;
+
+/*
+Fail-soft alpha-beta in negamax form: every node scores the position for the side to move,
+so one method serves both colours. Scores outside the (alpha, beta) window are bounds, which
+is what lets whole subtrees be skipped; inside the window they are the exact minimax values.
+At the horizon a quiescence search plays out captures and promotions, so a position is never
+scored halfway through an exchange. With principal variation search only the first move of a
+node gets the full window; the rest are scouted with a null window that just proves them no
+better, and are searched properly only if the scout says otherwise. In those null-window
+nodes the side to move first tries passing: if a reduced search still fails high after giving
+the opponent a free move, a real move would too, and the node is cut without searching any.
+Quiet moves late in the ordering are searched a ply or more shallower first, and again at full
+depth only if that beats alpha. Near the horizon the static score settles nodes far outside the
+window: one already above beta by the evaluator's futility margin returns at once, and one too
+far below alpha skips its quiet moves.
+ */
+public class AlphaBeta extends AbstractMoveStrategy {
+
+  // Not Integer.MIN_VALUE, which has no negation
+  static final int INFINITY = Integer.MAX_VALUE;
+  private static final int CLOCK_CHECK_INTERVAL = 1023;
+  static final int MAX_PLY = 128;
+  // Below this the reduced search would reach the horizon at once and save next to nothing
+  private static final int LATE_MOVE_MIN_DEPTH = 3;
+
+  private final BoardEvaluator boardEvaluator;
+  private final int searchDepth;
+  private final TranspositionTable transpositionTable;
+  private final SearchParameters searchParameters;
+  private final MoveOrdering moveOrdering = new MoveOrdering();
+  // Triangular table: row p holds the line found from ply p, up to pvLength[p]
+  private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+  private final int[] pvLength = new int[MAX_PLY];
+  private int rootPly;
+  private int rootScore;
+  private long deadline = Long.MAX_VALUE;
+  private volatile boolean stopped;
+
+  public AlphaBeta(final int searchDepth) {
+    this(searchDepth, null);
+  }
+
+  public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable) {
+    this(searchDepth, transpositionTable, SearchParameters.DEFAULT);
+  }
+
+  public AlphaBeta(
+      final int searchDepth,
+      final TranspositionTable transpositionTable,
+      final SearchParameters searchParameters) {
+    this.boardEvaluator = new StandardBoardEvaluator();
+    this.searchDepth = searchDepth;
+    this.transpositionTable = transpositionTable;
+    this.searchParameters = searchParameters;
+  }
+
+  // For drivers that collect the statistics of several searchers in one place
+  AlphaBeta(
+      final int searchDepth,
+      final TranspositionTable transpositionTable,
+      final SearchParameters searchParameters,
+      final SearchStats searchStats) {
+    this(searchDepth, transpositionTable, searchParameters);
+    this.searchStats = searchStats;
+  }
+
+  @Override
+  public String toString() {
+    return "AlphaBeta";
+  }
+
+  @Override
+  public Move execute(final Board board) {
+    startSearch(board);
+    if (this.transpositionTable != null) {
+      this.transpositionTable.newSearch();
+    }
+    this.moveOrdering.newSearch();
+
+    final int bestMove = searchRoot(new SearchBoard(board), this.searchDepth, PackedMove.NO_MOVE);
+    depthCompleted(this.searchDepth, this.rootScore, getRootPrincipalVariation());
+    searchCompleted();
+    return Move.MoveFactory.createMove(board, bestMove);
+  }
+
+  // Past the deadline every node returns at once; the caller must then discard the result
+  void setDeadline(final long deadline) {
+    this.deadline = deadline;
+    this.stopped = false;
+  }
+
+  // Safe to call from another thread
+  void stop() {
+    this.stopped = true;
+  }
+
+  boolean isStopped() {
+    return this.stopped;
+  }
+
+  // Best move at the given depth, searching firstMove (if legal) before the others
+  int searchRoot(final SearchBoard board, final int depth, final int firstMove) {
+    return searchRoot(board, depth, firstMove, -INFINITY, INFINITY);
+  }
+
+  /*
+  The same inside an aspiration window. A score at or past either edge of the window is only a
+  bound, and the move that produced it need not be the best; search again with a wider window.
+   */
+  int searchRoot(
+      final SearchBoard board,
+      final int depth,
+      final int firstMove,
+      final int alpha,
+      final int beta) {
+    this.rootPly = board.getPly();
+    clearPrincipalVariation(this.rootPly);
+    int bestMove = PackedMove.NO_MOVE;
+    int bestValue = -INFINITY;
+    int searchedMoves = 0;
+    this.searchStats.nodes++;
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    moveToFront(moves, numMoves, firstMove);
+    for (int i = 0; i < numMoves; i++) {
+      final int move = moves[i];
+      if (board.makeMove(move)) {
+        // Lowering alpha by one keeps ties exact, so like Minimax the last of equal moves wins
+        final int lowerBound = Math.max(bestValue - 1, alpha);
+        final int currentValue =
+            searchMove(board, depth - 1, lowerBound, beta, searchedMoves++ == 0, 0);
+        board.unmakeMove(move);
+        if (this.stopped) {
+          return PackedMove.NO_MOVE;
+        }
+        if (currentValue >= bestValue) {
+          bestValue = currentValue;
+          bestMove = move;
+          updatePrincipalVariation(this.rootPly, move);
+          if (currentValue >= beta) {
+            break;
+          }
+        }
+      } else {
+        this.searchStats.illegalMoves++;
+      }
+    }
+    this.rootScore = bestValue;
+    return bestMove;
+  }
+
+  // Score of the last searchRoot, for the side to move
+  int getRootScore() {
+    return this.rootScore;
+  }
+
+  int[] getRootPrincipalVariation() {
+    return Arrays.copyOfRange(
+        this.pvTable[this.rootPly], this.rootPly, this.pvLength[this.rootPly]);
+  }
+
+  public int alphaBeta(final SearchBoard board, final int depth, final int alpha, final int beta) {
+    return alphaBeta(board, depth, alpha, beta, true);
+  }
+
+  private int alphaBeta(
+      final SearchBoard board,
+      final int depth,
+      int alpha,
+      final int beta,
+      final boolean allowNullMove) {
+    final int ply = board.getPly();
+    clearPrincipalVariation(ply);
+    if (depth == 0 && this.searchParameters.isQuiescence()) {
+      return quiescence(board, alpha, beta);
+    }
+    if (isOutOfTime()) return 0;
+    if (depth == 0) return evaluate(board, depth);
+
+    final long entry = probe(board);
+    if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) >= depth) {
+      this.searchStats.hashHits++;
+      final int score = TranspositionTable.getScore(entry);
+      switch (TranspositionTable.getBound(entry)) {
+        case TranspositionTable.EXACT:
+          return score;
+        case TranspositionTable.LOWER_BOUND:
+          if (score >= beta) return score;
+          break;
+        default:
+          if (score <= alpha) return score;
+          break;
+      }
+    }
+
+    // A shallower entry cannot settle the node but its move is still the best first guess
+    final int hashMove =
+        entry != TranspositionTable.NO_ENTRY
+            ? TranspositionTable.getMove(entry)
+            : PackedMove.NO_MOVE;
+
+    final boolean inCheck = board.isInCheck();
+    final boolean pvNode = beta - alpha > 1;
+    final boolean frontier =
+        !pvNode && !inCheck && depth <= this.searchParameters.getFutilityDepth();
+    int futilityValue = -INFINITY;
+    if (frontier) {
+      final int staticValue = evaluate(board, depth);
+      final int margin = this.boardEvaluator.getFutilityMargin(depth);
+      if (staticValue - margin >= beta) {
+        this.searchStats.reverseFutilityPrunes++;
+        return staticValue - margin;
+      }
+      futilityValue = staticValue + margin;
+    }
+
+    // Two passes in a row would just hand the search back at a lower depth
+    final int reduction = this.searchParameters.getNullMoveReduction();
+    if (allowNullMove
+        && reduction > 0
+        && depth > reduction
+        && !pvNode
+        && !inCheck
+        && board.hasNonPawnMaterial()) {
+      board.makeNullMove();
+      final int nullValue = -alphaBeta(board, depth - 1 - reduction, -beta, -beta + 1, false);
+      board.unmakeNullMove();
+      if (this.stopped) return 0;
+      // Mate scores found after a pass prove nothing, so only the bound is returned
+      if (nullValue >= beta) {
+        this.searchStats.nullMoveCutoffs++;
+        // Keep the hash move rather than overwrite it with no move at all
+        store(board, hashMove, beta, depth, alpha, beta);
+        return beta;
+      }
+    }
+
+    final int originalAlpha = alpha;
+    int bestValue = -INFINITY;
+    int bestMove = PackedMove.NO_MOVE;
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    this.moveOrdering.orderMoves(board, moves, numMoves, hashMove, ply);
+    final int lateMoveReduction = this.searchParameters.getLateMoveReduction();
+    int searchedMoves = 0;
+    for (int i = 0; i < numMoves; i++) {
+      if (board.makeMove(moves[i])) {
+        final boolean quiet = !MoveOrdering.isTactical(moves[i]) && !board.isInCheck();
+        if (frontier && quiet && futilityValue <= alpha && searchedMoves > 0) {
+          board.unmakeMove(moves[i]);
+          this.searchStats.futilityPrunes++;
+          bestValue = Math.max(bestValue, futilityValue);
+          continue;
+        }
+        final int moveReduction =
+            quiet
+                    && !inCheck
+                    && depth >= LATE_MOVE_MIN_DEPTH
+                    && searchedMoves >= this.searchParameters.getLateMoveThreshold()
+                ? Math.min(lateMoveReduction, depth - 2)
+                : 0;
+        final int currentValue =
+            searchMove(board, depth - 1, alpha, beta, searchedMoves++ == 0, moveReduction);
+        board.unmakeMove(moves[i]);
+        if (this.stopped) return 0;
+        if (currentValue > bestValue || bestMove == PackedMove.NO_MOVE) {
+          bestValue = currentValue;
+          bestMove = moves[i];
+          if (currentValue > alpha) {
+            alpha = currentValue;
+            updatePrincipalVariation(ply, moves[i]);
+            if (alpha >= beta) {
+              this.searchStats.cutoffs++;
+              this.moveOrdering.recordCutoff(moves[i], ply, depth);
+              break;
+            }
+          }
+        }
+      } else {
+        this.searchStats.illegalMoves++;
+      }
+    }
+
+    // No legal move means checkmate or stalemate, which move generation has just told us
+    if (bestMove == PackedMove.NO_MOVE) {
+      bestValue = evaluate(board, depth, inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE);
+    }
+    store(board, bestMove, bestValue, depth, originalAlpha, beta);
+    return bestValue;
+  }
+
+  // Scores the move just made from the mover's side; the board is one ply deeper
+  private int searchMove(
+      final SearchBoard board,
+      final int depth,
+      final int alpha,
+      final int beta,
+      final boolean firstMove,
+      final int reduction) {
+    if (reduction > 0) {
+      this.searchStats.lateMoveReductions++;
+      final int reducedValue = -alphaBeta(board, depth - reduction, -alpha - 1, -alpha);
+      if (reducedValue <= alpha || this.stopped) {
+        return reducedValue;
+      }
+      this.searchStats.lateMoveResearches++;
+    }
+    if (firstMove || !this.searchParameters.isPrincipalVariationSearch()) {
+      return -alphaBeta(board, depth, -beta, -alpha);
+    }
+    final int scoutValue = -alphaBeta(board, depth, -alpha - 1, -alpha);
+    if (scoutValue > alpha && scoutValue < beta && !this.stopped) {
+      this.searchStats.researches++;
+      return -alphaBeta(board, depth, -beta, -alpha);
+    }
+    return scoutValue;
+  }
+
+  private void clearPrincipalVariation(final int ply) {
+    if (ply < MAX_PLY) {
+      this.pvLength[ply] = ply;
+    }
+  }
+
+  // The move followed by the line its child node just found
+  private void updatePrincipalVariation(final int ply, final int move) {
+    if (ply + 1 >= MAX_PLY) {
+      return;
+    }
+    this.pvTable[ply][ply] = move;
+    final int childLength = this.pvLength[ply + 1];
+    System.arraycopy(
+        this.pvTable[ply + 1], ply + 1, this.pvTable[ply], ply + 1, childLength - ply - 1);
+    this.pvLength[ply] = childLength;
+  }
+
+  /*
+  Searches captures and promotions only. The side to move may also stand pat on the static
+  score, since it is never forced to capture, so that score is a lower bound from the start.
+   */
+  private int quiescence(final SearchBoard board, int alpha, final int beta) {
+    clearPrincipalVariation(board.getPly());
+    this.searchStats.quiescenceNodes++;
+    if (isOutOfTime()) return 0;
+    final int standPat = evaluate(board, 0);
+    if (standPat >= beta) {
+      this.searchStats.cutoffs++;
+      return standPat;
+    }
+    if (standPat > alpha) {
+      alpha = standPat;
+    }
+
+    int bestValue = standPat;
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateTacticalMoves(moves);
+    this.moveOrdering.orderMoves(board, moves, numMoves, PackedMove.NO_MOVE, board.getPly());
+    for (int i = 0; i < numMoves; i++) {
+      final int move = moves[i];
+      // Delta pruning: winning the piece outright still leaves the score at or below alpha
+      if (!PackedMove.isPromotion(move)
+          && standPat
+                  + board.getCapturedPieceType(move).getPieceValue()
+                  + this.searchParameters.getDeltaMargin()
+              <= alpha) {
+        this.searchStats.deltaPrunes++;
+        continue;
+      }
+      if (this.searchParameters.isSeePruning() && MoveOrdering.isLosingCapture(board, move)) {
+        this.searchStats.seePrunes++;
+        continue;
+      }
+      if (board.makeMove(move)) {
+        final int currentValue = -quiescence(board, -beta, -alpha);
+        board.unmakeMove(move);
+        if (this.stopped) return 0;
+        if (currentValue > bestValue) {
+          bestValue = currentValue;
+          if (currentValue > alpha) {
+            alpha = currentValue;
+            if (alpha >= beta) {
+              this.searchStats.cutoffs++;
+              break;
+            }
+          }
+        }
+      } else {
+        this.searchStats.illegalMoves++;
+      }
+    }
+    return bestValue;
+  }
+
+  // Counts the node and checks the clock every so often
+  private boolean isOutOfTime() {
+    if ((++this.searchStats.nodes & CLOCK_CHECK_INTERVAL) == 0
+        && System.currentTimeMillis() >= this.deadline) {
+      this.stopped = true;
+    }
+    return this.stopped;
+  }
+
+  private static void moveToFront(final int[] moves, final int numMoves, final int move) {
+    for (int i = 0; i < numMoves; i++) {
+      if (moves[i] == move) {
+        System.arraycopy(moves, 0, moves, 1, i);
+        moves[0] = move;
+        return;
+      }
+    }
+  }
+
+  // The evaluator scores for white
+  private int evaluate(final SearchBoard board, final int depth) {
+    this.searchStats.leafEvaluations++;
+    final int score = this.boardEvaluator.evaluate(board, depth);
+    return board.getSideToMove().isWhite() ? score : -score;
+  }
+
+  private int evaluate(final SearchBoard board, final int depth, final GameStatus gameStatus) {
+    this.searchStats.leafEvaluations++;
+    final int score = this.boardEvaluator.evaluate(board, depth, gameStatus);
+    return board.getSideToMove().isWhite() ? score : -score;
+  }
+
+  private long probe(final SearchBoard board) {
+    if (this.transpositionTable == null) return TranspositionTable.NO_ENTRY;
+    return this.transpositionTable.probe(board.getZobristKey());
+  }
+
+  private void store(
+      final SearchBoard board,
+      final int move,
+      final int score,
+      final int depth,
+      final int alpha,
+      final int beta) {
+    if (this.transpositionTable == null) return;
+    final int bound =
+        score <= alpha
+            ? TranspositionTable.UPPER_BOUND
+            : score >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+    this.transpositionTable.store(board.getZobristKey(), move, score, depth, bound);
+  }
+}
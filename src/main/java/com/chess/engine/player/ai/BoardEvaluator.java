@@ -1,7 +1,18 @@
 package com.chess.engine.player.ai;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.GameStatus;
 
 public interface BoardEvaluator {
   int evaluate(Board board, int depth);
+
+  // Same scoring, read from the position the search is mutating
+  int evaluate(SearchBoard board, int depth);
+
+  // For a position whose status the caller already knows, such as a search node left without moves
+  int evaluate(SearchBoard board, int depth, GameStatus gameStatus);
+
+  // How far quiet play over this many plies can plausibly move the score, for futility pruning
+  int getFutilityMargin(int depth);
 }
@@ -0,0 +1,214 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+Searches depth 1, 2, 3... with alpha-beta until the maximum depth is done or the time budget
+runs out. An iteration cut short by the clock is thrown away, so the answer is always the best
+move of the deepest completed iteration. Each iteration tries the previous best move first,
+and the transposition table carries everything else learned between iterations. From depth 2
+the root is searched in an aspiration window around the previous score, widened and searched
+again whenever the score lands outside it.
+With more than one thread this becomes Lazy SMP: helper threads run the same deepening loop on
+their own boards, half of them a depth ahead, and only meet in the shared transposition table.
+The entries they leave behind steer and cut the main thread's search, which alone picks the move.
+ */
+public class IterativeDeepening extends AbstractMoveStrategy {
+
+  private final int maxDepth;
+  private final long timeBudgetMillis;
+  private final TranspositionTable transpositionTable;
+  private final int numThreads;
+  private final SearchParameters searchParameters;
+
+  public IterativeDeepening(
+      final int maxDepth,
+      final long timeBudgetMillis,
+      final TranspositionTable transpositionTable,
+      final int numThreads,
+      final SearchParameters searchParameters) {
+    this.maxDepth = Math.max(maxDepth, 1);
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.transpositionTable = transpositionTable;
+    this.numThreads = Math.max(numThreads, 1);
+    this.searchParameters = searchParameters;
+  }
+
+  public IterativeDeepening(
+      final int maxDepth,
+      final long timeBudgetMillis,
+      final TranspositionTable transpositionTable,
+      final int numThreads) {
+    this(maxDepth, timeBudgetMillis, transpositionTable, numThreads, SearchParameters.DEFAULT);
+  }
+
+  public IterativeDeepening(
+      final int maxDepth,
+      final long timeBudgetMillis,
+      final TranspositionTable transpositionTable) {
+    this(maxDepth, timeBudgetMillis, transpositionTable, 1);
+  }
+
+  public IterativeDeepening(final int maxDepth, final long timeBudgetMillis) {
+    this(maxDepth, timeBudgetMillis, new TranspositionTable());
+  }
+
+  @Override
+  public String toString() {
+    return "IterativeDeepening";
+  }
+
+  @Override
+  public Move execute(final Board board) {
+    startSearch(board);
+    final long deadline = System.currentTimeMillis() + this.timeBudgetMillis;
+    final SearchBoard searchBoard = new SearchBoard(board);
+    final AlphaBeta alphaBeta =
+        new AlphaBeta(
+            this.maxDepth, this.transpositionTable, this.searchParameters, this.searchStats);
+    if (this.transpositionTable != null) {
+      this.transpositionTable.newSearch();
+    }
+    final List<Helper> helpers = startHelpers(board, deadline);
+
+    int bestMove = PackedMove.NO_MOVE;
+    int score = 0;
+    for (int depth = 1; depth <= this.maxDepth; depth++) {
+      // Depth 1 always finishes so there is a move to play however small the budget
+      alphaBeta.setDeadline(depth == 1 ? Long.MAX_VALUE : deadline);
+      final int move = searchRoot(alphaBeta, searchBoard, depth, bestMove, score);
+      if (alphaBeta.isStopped() || move == PackedMove.NO_MOVE) {
+        break;
+      }
+      bestMove = move;
+      score = alphaBeta.getRootScore();
+      depthCompleted(depth, score, alphaBeta.getRootPrincipalVariation());
+      if (System.currentTimeMillis() >= deadline) {
+        break;
+      }
+    }
+    stopHelpers(helpers);
+    for (final Helper helper : helpers) {
+      this.searchStats.add(helper.alphaBeta.getSearchStats());
+    }
+    searchCompleted();
+
+    return Move.MoveFactory.createMove(board, bestMove);
+  }
+
+  private int searchRoot(
+      final AlphaBeta alphaBeta,
+      final SearchBoard searchBoard,
+      final int depth,
+      final int firstMove,
+      final int previousScore) {
+    int delta = this.searchParameters.getAspirationWindow();
+    if (depth == 1 || delta <= 0) {
+      return alphaBeta.searchRoot(searchBoard, depth, firstMove);
+    }
+    int alpha = clampToWindow((long) previousScore - delta);
+    int beta = clampToWindow((long) previousScore + delta);
+    while (true) {
+      final int move = alphaBeta.searchRoot(searchBoard, depth, firstMove, alpha, beta);
+      final int score = alphaBeta.getRootScore();
+      final boolean failedLow = score <= alpha && alpha > -AlphaBeta.INFINITY;
+      final boolean failedHigh = score >= beta && beta < AlphaBeta.INFINITY;
+      if (alphaBeta.isStopped() || !(failedLow || failedHigh)) {
+        return move;
+      }
+      this.searchStats.aspirationFailures++;
+      delta = clampToWindow(delta * 4L);
+      if (failedLow) {
+        alpha = clampToWindow((long) score - delta);
+      } else {
+        beta = clampToWindow((long) score + delta);
+      }
+    }
+  }
+
+  private static int clampToWindow(final long bound) {
+    return (int) Math.max(-AlphaBeta.INFINITY, Math.min(AlphaBeta.INFINITY, bound));
+  }
+
+  // Helpers share only the table, so without one they would be wasted work
+  private List<Helper> startHelpers(final Board board, final long deadline) {
+    final List<Helper> helpers = new ArrayList<>();
+    if (this.transpositionTable == null) {
+      return helpers;
+    }
+    for (int i = 1; i < this.numThreads; i++) {
+      final Helper helper =
+          new Helper(
+              new SearchBoard(board),
+              new AlphaBeta(this.maxDepth, this.transpositionTable, this.searchParameters),
+              1 + i % 2,
+              this.maxDepth,
+              deadline);
+      helpers.add(helper);
+      helper.start();
+    }
+    return helpers;
+  }
+
+  private static void stopHelpers(final List<Helper> helpers) {
+    for (final Helper helper : helpers) {
+      helper.finish();
+    }
+    for (final Helper helper : helpers) {
+      try {
+        helper.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static class Helper extends Thread {
+    private final SearchBoard searchBoard;
+    private final AlphaBeta alphaBeta;
+    private final int firstDepth;
+    private final int maxDepth;
+    private final long deadline;
+    private volatile boolean finished;
+
+    private Helper(
+        final SearchBoard searchBoard,
+        final AlphaBeta alphaBeta,
+        final int firstDepth,
+        final int maxDepth,
+        final long deadline) {
+      this.searchBoard = searchBoard;
+      this.alphaBeta = alphaBeta;
+      this.firstDepth = firstDepth;
+      this.maxDepth = maxDepth;
+      this.deadline = deadline;
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      for (int depth = this.firstDepth; depth <= this.maxDepth; depth++) {
+        this.alphaBeta.setDeadline(this.deadline);
+        // checked after setDeadline, which would otherwise clear a stop sent just before it
+        if (this.finished) {
+          return;
+        }
+        this.alphaBeta.searchRoot(this.searchBoard, depth, PackedMove.NO_MOVE);
+        if (this.alphaBeta.isStopped()) {
+          return;
+        }
+      }
+    }
+
+    private void finish() {
+      this.finished = true;
+      this.alphaBeta.stop();
+    }
+  }
+}
@@ -2,16 +2,25 @@ package com.chess.engine.player.ai;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
-import com.chess.engine.player.MoveTransition;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.GameStatus;
 
-public class Minimax implements MoveStrategy {
+public class Minimax extends AbstractMoveStrategy {
 
   private final BoardEvaluator boardEvaluator;
   private final int searchDepth;
+  private final TranspositionTable transpositionTable;
 
   public Minimax(final int searchDepth) {
+    this(searchDepth, null);
+  }
+
+  // A table shared across calls keeps what earlier searches learned; null searches without one
+  public Minimax(final int searchDepth, final TranspositionTable transpositionTable) {
     this.boardEvaluator = new StandardBoardEvaluator();
     this.searchDepth = searchDepth;
+    this.transpositionTable = transpositionTable;
   }
 
   @Override
@@ -21,24 +30,31 @@ public class Minimax implements MoveStrategy {
 
   @Override
   public Move execute(Board board) {
-    final long startTime = System.currentTimeMillis();
+    startSearch(board);
 
-    Move bestMove = null;
+    // The tree is walked on one mutable position; Board is only rebuilt for the chosen move
+    final SearchBoard searchBoard = new SearchBoard(board);
+    this.searchStats.nodes++;
+    int bestMove = PackedMove.NO_MOVE;
 
     int highestseenValue = Integer.MIN_VALUE;
     int lowestseenValue = Integer.MAX_VALUE;
     int currentValue;
 
-    System.out.println(board.currentPlayer() + " thinking with depth = " + searchDepth);
+    if (this.transpositionTable != null) {
+      this.transpositionTable.newSearch();
+    }
 
-    int numMoves = board.currentPlayer().getLegalMoves().size();
-    for (final Move move : board.currentPlayer().getLegalMoves()) {
-      final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-      if (moveTransition.getMoveStatus().isDone()) {
+    final int[] moves = searchBoard.getMoveList();
+    final int numMoves = searchBoard.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      final int move = moves[i];
+      if (searchBoard.makeMove(move)) {
         currentValue =
             board.currentPlayer().getAlliance().isWhite()
-                ? min(moveTransition.getTransitionBoard(), searchDepth - 1)
-                : max(moveTransition.getTransitionBoard(), searchDepth - 1);
+                ? min(searchBoard, searchDepth - 1)
+                : max(searchBoard, searchDepth - 1);
+        searchBoard.unmakeMove(move);
         if (board.currentPlayer().getAlliance().isWhite() && currentValue >= highestseenValue) {
           highestseenValue = currentValue;
           bestMove = move;
@@ -47,46 +63,104 @@ public class Minimax implements MoveStrategy {
           lowestseenValue = currentValue;
           bestMove = move;
         }
+      } else {
+        this.searchStats.illegalMoves++;
       }
     }
-    final long executionTime = System.currentTimeMillis() - startTime;
+    depthCompleted(
+        this.searchDepth,
+        board.currentPlayer().getAlliance().isWhite() ? highestseenValue : -lowestseenValue,
+        bestMove);
+    searchCompleted();
 
-    return bestMove;
+    return Move.MoveFactory.createMove(board, bestMove);
   }
 
-  public int min(final Board board, final int depth) {
-    if (depth == 0 || isEndGameScenario(board)) return this.boardEvaluator.evaluate(board, depth);
+  // A node left without a legal move is checkmate or stalemate, known without asking again
+  public int min(final SearchBoard board, final int depth) {
+    this.searchStats.nodes++;
+    if (depth == 0) return evaluate(board, depth);
+    final long entry = probe(board, depth);
+    if (entry != TranspositionTable.NO_ENTRY) return TranspositionTable.getScore(entry);
 
     int lowestSeenValue = Integer.MAX_VALUE;
-    for (final Move move : board.currentPlayer().getLegalMoves()) {
-      final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-      if (moveTransition.getMoveStatus().isDone()) {
-        final int currentValue = max(moveTransition.getTransitionBoard(), depth - 1);
-        if (currentValue < lowestSeenValue) {
+    int bestMove = PackedMove.NO_MOVE;
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      if (board.makeMove(moves[i])) {
+        final int currentValue = max(board, depth - 1);
+        board.unmakeMove(moves[i]);
+        if (currentValue < lowestSeenValue || bestMove == PackedMove.NO_MOVE) {
           lowestSeenValue = currentValue;
+          bestMove = moves[i];
         }
+      } else {
+        this.searchStats.illegalMoves++;
       }
     }
+    if (bestMove == PackedMove.NO_MOVE) {
+      lowestSeenValue = evaluateTerminal(board, depth);
+    }
+    store(board, bestMove, lowestSeenValue, depth);
     return lowestSeenValue;
   }
 
-  public int max(final Board board, final int depth) {
-    if (depth == 0 || isEndGameScenario(board)) return this.boardEvaluator.evaluate(board, depth);
+  public int max(final SearchBoard board, final int depth) {
+    this.searchStats.nodes++;
+    if (depth == 0) return evaluate(board, depth);
+    final long entry = probe(board, depth);
+    if (entry != TranspositionTable.NO_ENTRY) return TranspositionTable.getScore(entry);
 
     int highestSeenValue = Integer.MIN_VALUE;
-    for (final Move move : board.currentPlayer().getLegalMoves()) {
-      final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-      if (moveTransition.getMoveStatus().isDone()) {
-        final int currentValue = min(moveTransition.getTransitionBoard(), depth - 1);
-        if (currentValue > highestSeenValue) {
+    int bestMove = PackedMove.NO_MOVE;
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      if (board.makeMove(moves[i])) {
+        final int currentValue = min(board, depth - 1);
+        board.unmakeMove(moves[i]);
+        if (currentValue > highestSeenValue || bestMove == PackedMove.NO_MOVE) {
           highestSeenValue = currentValue;
+          bestMove = moves[i];
         }
+      } else {
+        this.searchStats.illegalMoves++;
       }
     }
+    if (bestMove == PackedMove.NO_MOVE) {
+      highestSeenValue = evaluateTerminal(board, depth);
+    }
+    store(board, bestMove, highestSeenValue, depth);
     return highestSeenValue;
   }
 
-  private static boolean isEndGameScenario(final Board board) {
-    return board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate();
+  private int evaluate(final SearchBoard board, final int depth) {
+    this.searchStats.leafEvaluations++;
+    return this.boardEvaluator.evaluate(board, depth);
+  }
+
+  private int evaluateTerminal(final SearchBoard board, final int depth) {
+    this.searchStats.leafEvaluations++;
+    return this.boardEvaluator.evaluate(
+        board, depth, board.isInCheck() ? GameStatus.CHECKMATE : GameStatus.STALEMATE);
+  }
+
+  // Plain minimax never cuts off, so every stored score is exact
+  private long probe(final SearchBoard board, final int depth) {
+    if (this.transpositionTable == null) return TranspositionTable.NO_ENTRY;
+    final long entry = this.transpositionTable.probe(board.getZobristKey());
+    if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) >= depth) {
+      this.searchStats.hashHits++;
+      return entry;
+    }
+    return TranspositionTable.NO_ENTRY;
+  }
+
+  private void store(final SearchBoard board, final int move, final int score, final int depth) {
+    if (this.transpositionTable != null) {
+      this.transpositionTable.store(
+          board.getZobristKey(), move, score, depth, TranspositionTable.EXACT);
+    }
   }
 }
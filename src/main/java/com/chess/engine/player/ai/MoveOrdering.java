@@ -0,0 +1,124 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece.PieceType;
+
+/*
+Sorts a node's moves so the ones likely to cause a cutoff come first: the hash move, then
+captures and promotions by most valuable victim / least valuable attacker, then the two killer
+moves of the ply, then the remaining quiet moves by how often they cut off before, and last the
+captures that static exchange evaluation says lose material. Killers and history are learned
+from cutoffs and kept across the iterations of a search.
+ */
+final class MoveOrdering {
+  private static final int HASH_MOVE_SCORE = 1 << 30;
+  private static final int CAPTURE_SCORE = 1 << 24;
+  private static final int LOSING_CAPTURE_SCORE = -(1 << 24);
+  private static final int KILLER_SCORE = 1 << 22;
+  private static final int HISTORY_LIMIT = 1 << 20;
+
+  private final int[] scores = new int[SearchBoard.MAX_MOVES];
+  private final int[][] killers = new int[AlphaBeta.MAX_PLY][2];
+  private final int[] history = new int[BoardUtils.NUM_TILES * BoardUtils.NUM_TILES];
+
+  // Killers belong to the old position; history is halved so recent cutoffs count for more
+  void newSearch() {
+    for (final int[] plyKillers : this.killers) {
+      plyKillers[0] = PackedMove.NO_MOVE;
+      plyKillers[1] = PackedMove.NO_MOVE;
+    }
+    for (int i = 0; i < this.history.length; i++) {
+      this.history[i] >>= 1;
+    }
+  }
+
+  void orderMoves(
+      final SearchBoard board,
+      final int[] moves,
+      final int numMoves,
+      final int hashMove,
+      final int ply) {
+    final int[] plyKillers = ply < AlphaBeta.MAX_PLY ? this.killers[ply] : null;
+    for (int i = 0; i < numMoves; i++) {
+      this.scores[i] = score(board, moves[i], hashMove, plyKillers);
+    }
+    // Insertion sort, highest score first; move lists are short and often nearly sorted
+    for (int i = 1; i < numMoves; i++) {
+      final int move = moves[i];
+      final int score = this.scores[i];
+      int j = i - 1;
+      while (j >= 0 && this.scores[j] < score) {
+        moves[j + 1] = moves[j];
+        this.scores[j + 1] = this.scores[j];
+        j--;
+      }
+      moves[j + 1] = move;
+      this.scores[j + 1] = score;
+    }
+  }
+
+  // Only quiet moves are remembered; captures are already ordered well by MVV-LVA
+  void recordCutoff(final int move, final int ply, final int depth) {
+    if (isTactical(move)) {
+      return;
+    }
+    if (ply < AlphaBeta.MAX_PLY && this.killers[ply][0] != move) {
+      this.killers[ply][1] = this.killers[ply][0];
+      this.killers[ply][0] = move;
+    }
+    final int index = historyIndex(move);
+    this.history[index] += depth * depth;
+    if (this.history[index] >= HISTORY_LIMIT) {
+      for (int i = 0; i < this.history.length; i++) {
+        this.history[i] >>= 1;
+      }
+    }
+  }
+
+  private int score(
+      final SearchBoard board, final int move, final int hashMove, final int[] plyKillers) {
+    if (move == hashMove) {
+      return HASH_MOVE_SCORE;
+    }
+    if (isTactical(move)) {
+      final PieceType victim = board.getCapturedPieceType(move);
+      final int gain =
+          (victim != null ? victim.getPieceValue() : 0)
+              + (PackedMove.isPromotion(move)
+                  ? PackedMove.getPromotionType(move).getPieceValue()
+                  : 0);
+      final int attacker = board.getPieceType(PackedMove.getSource(move)).getPieceValue();
+      return (isLosingCapture(board, move) ? LOSING_CAPTURE_SCORE : CAPTURE_SCORE)
+          + gain * 16
+          - attacker / 16;
+    }
+    if (plyKillers != null) {
+      if (move == plyKillers[0]) {
+        return KILLER_SCORE + 1;
+      }
+      if (move == plyKillers[1]) {
+        return KILLER_SCORE;
+      }
+    }
+    return this.history[historyIndex(move)];
+  }
+
+  // Taking with a piece worth no more than the victim can never lose material, so SEE is skipped
+  static boolean isLosingCapture(final SearchBoard board, final int move) {
+    final PieceType victim = board.getCapturedPieceType(move);
+    return victim != null
+        && !PackedMove.isPromotion(move)
+        && board.getPieceType(PackedMove.getSource(move)).getPieceValue() > victim.getPieceValue()
+        && board.staticExchange(move) < 0;
+  }
+
+  static boolean isTactical(final int move) {
+    return PackedMove.isCapture(move) || PackedMove.isPromotion(move);
+  }
+
+  private static int historyIndex(final int move) {
+    return PackedMove.getSource(move) * BoardUtils.NUM_TILES + PackedMove.getDestination(move);
+  }
+}
@@ -3,6 +3,16 @@ package com.chess.engine.player.ai;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
 
+import java.util.List;
+
 public interface MoveStrategy {
   Move execute(Board board);
+
+  void setSearchListener(SearchListener searchListener);
+
+  // Statistics of the last (or currently running) execute
+  SearchStats getSearchStats();
+
+  // Expected line of play from the deepest completed depth of the last execute
+  List<Move> getPrincipalVariation();
 }
@@ -0,0 +1,117 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Alpha-beta with the root moves split across a fork/join pool, one task per move, each on its
+own SearchBoard. Tasks publish their scores to a shared best value that later tasks use as
+alpha, lowered by one so that a move tying the best still gets its exact score. Scores below
+the final best can only come back as bounds below it, so the set of best moves never depends on
+thread timing, and picking the last of them in generation order matches AlphaBeta.
+ */
+public class ParallelAlphaBeta extends AbstractMoveStrategy {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool();
+
+  private final int searchDepth;
+  private final SearchParameters searchParameters;
+
+  public ParallelAlphaBeta(final int searchDepth) {
+    this(searchDepth, SearchParameters.DEFAULT);
+  }
+
+  public ParallelAlphaBeta(final int searchDepth, final SearchParameters searchParameters) {
+    this.searchDepth = searchDepth;
+    this.searchParameters = searchParameters;
+  }
+
+  @Override
+  public String toString() {
+    return "ParallelAlphaBeta";
+  }
+
+  @Override
+  public Move execute(final Board board) {
+    startSearch(board);
+    final SearchBoard searchBoard = new SearchBoard(board);
+    this.searchStats.nodes++;
+    final AtomicInteger sharedBestValue = new AtomicInteger(-AlphaBeta.INFINITY);
+    final List<RootMoveTask> tasks = new ArrayList<>();
+    final int[] moves = searchBoard.getMoveList();
+    final int numMoves = searchBoard.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      if (searchBoard.makeMove(moves[i])) {
+        searchBoard.unmakeMove(moves[i]);
+        final RootMoveTask task =
+            new RootMoveTask(
+                board, moves[i], this.searchDepth, this.searchParameters, sharedBestValue);
+        tasks.add(task);
+        POOL.execute(task);
+      } else {
+        this.searchStats.illegalMoves++;
+      }
+    }
+
+    int bestMove = PackedMove.NO_MOVE;
+    int bestValue = -AlphaBeta.INFINITY;
+    for (final RootMoveTask task : tasks) {
+      final int currentValue = task.join();
+      this.searchStats.add(task.searchStats);
+      if (currentValue >= bestValue) {
+        bestValue = currentValue;
+        bestMove = task.move;
+      }
+    }
+
+    depthCompleted(this.searchDepth, bestValue, bestMove);
+    searchCompleted();
+
+    return Move.MoveFactory.createMove(board, bestMove);
+  }
+
+  private static class RootMoveTask extends RecursiveTask<Integer> {
+    private final Board board;
+    private final int move;
+    private final int searchDepth;
+    private final SearchParameters searchParameters;
+    private final AtomicInteger sharedBestValue;
+    private final SearchStats searchStats = new SearchStats();
+
+    private RootMoveTask(
+        final Board board,
+        final int move,
+        final int searchDepth,
+        final SearchParameters searchParameters,
+        final AtomicInteger sharedBestValue) {
+      this.board = board;
+      this.move = move;
+      this.searchDepth = searchDepth;
+      this.searchParameters = searchParameters;
+      this.sharedBestValue = sharedBestValue;
+    }
+
+    @Override
+    protected Integer compute() {
+      final SearchBoard searchBoard = new SearchBoard(this.board);
+      searchBoard.makeMove(this.move);
+      final int alpha = Math.max(this.sharedBestValue.get() - 1, -AlphaBeta.INFINITY);
+      final int value =
+          -new AlphaBeta(this.searchDepth, null, this.searchParameters, this.searchStats)
+              .alphaBeta(searchBoard, this.searchDepth - 1, -AlphaBeta.INFINITY, -alpha);
+      int best = this.sharedBestValue.get();
+      while (value > best && !this.sharedBestValue.compareAndSet(best, value)) {
+        best = this.sharedBestValue.get();
+      }
+      return value;
+    }
+  }
+}
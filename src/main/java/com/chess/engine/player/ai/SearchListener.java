@@ -0,0 +1,18 @@
+package com.chess.engine.player.ai;
+
+// Called on the searching thread, so implementations should hand work off rather than block
+public interface SearchListener {
+  SearchListener NONE =
+      new SearchListener() {
+        @Override
+        public void depthCompleted(final SearchStats stats) {}
+
+        @Override
+        public void searchCompleted(final SearchStats stats) {}
+      };
+
+  // The newest entry of stats.getDepthStats() is the depth just finished
+  void depthCompleted(SearchStats stats);
+
+  void searchCompleted(SearchStats stats);
+}
@@ -0,0 +1,171 @@
+package com.chess.engine.player.ai;
+
+/*
+Switches and margins for the selective parts of AlphaBeta. DEFAULT is what the engine plays
+with; FULL_WIDTH turns everything off, leaving plain alpha-beta that returns exactly what
+Minimax would.
+ */
+public final class SearchParameters {
+
+  public static final SearchParameters DEFAULT = new Builder().build();
+  public static final SearchParameters FULL_WIDTH =
+      new Builder()
+          .setQuiescence(false)
+          .setSeePruning(false)
+          .setPrincipalVariationSearch(false)
+          .setAspirationWindow(0)
+          .setNullMoveReduction(0)
+          .setLateMoveReduction(0)
+          .setFutilityDepth(0)
+          .build();
+
+  private final boolean quiescence;
+  private final int deltaMargin;
+  private final boolean seePruning;
+  private final boolean principalVariationSearch;
+  private final int aspirationWindow;
+  private final int nullMoveReduction;
+  private final int lateMoveReduction;
+  private final int lateMoveThreshold;
+  private final int futilityDepth;
+
+  private SearchParameters(final Builder builder) {
+    this.quiescence = builder.quiescence;
+    this.deltaMargin = builder.deltaMargin;
+    this.seePruning = builder.seePruning;
+    this.principalVariationSearch = builder.principalVariationSearch;
+    this.aspirationWindow = builder.aspirationWindow;
+    this.nullMoveReduction = builder.nullMoveReduction;
+    this.lateMoveReduction = builder.lateMoveReduction;
+    this.lateMoveThreshold = builder.lateMoveThreshold;
+    this.futilityDepth = builder.futilityDepth;
+  }
+
+  // Resolve captures and promotions past the horizon instead of evaluating mid-exchange
+  public boolean isQuiescence() {
+    return this.quiescence;
+  }
+
+  // What a capture may gain beyond the captured piece's value before delta pruning skips it
+  public int getDeltaMargin() {
+    return this.deltaMargin;
+  }
+
+  // Skip captures in quiescence that static exchange evaluation says lose material
+  public boolean isSeePruning() {
+    return this.seePruning;
+  }
+
+  // Scout every move after the first with a null window
+  public boolean isPrincipalVariationSearch() {
+    return this.principalVariationSearch;
+  }
+
+  // Half-width of the window iterative deepening centres on the last score; 0 searches full width
+  public int getAspirationWindow() {
+    return this.aspirationWindow;
+  }
+
+  // Extra plies taken off the search after passing the turn; 0 turns null-move pruning off
+  public int getNullMoveReduction() {
+    return this.nullMoveReduction;
+  }
+
+  // Plies taken off quiet moves late in the ordering; 0 turns late move reductions off
+  public int getLateMoveReduction() {
+    return this.lateMoveReduction;
+  }
+
+  // Moves searched at full depth at a node before later quiet ones are reduced
+  public int getLateMoveThreshold() {
+    return this.lateMoveThreshold;
+  }
+
+  // Deepest remaining depth at which futility and reverse futility pruning apply; 0 turns both off
+  public int getFutilityDepth() {
+    return this.futilityDepth;
+  }
+
+  @Override
+  public String toString() {
+    return "quiescence="
+        + this.quiescence
+        + " deltaMargin="
+        + this.deltaMargin
+        + " seePruning="
+        + this.seePruning
+        + " pvs="
+        + this.principalVariationSearch
+        + " aspirationWindow="
+        + this.aspirationWindow
+        + " nullMoveReduction="
+        + this.nullMoveReduction
+        + " lateMoveReduction="
+        + this.lateMoveReduction
+        + " lateMoveThreshold="
+        + this.lateMoveThreshold
+        + " futilityDepth="
+        + this.futilityDepth;
+  }
+
+  public static class Builder {
+    private boolean quiescence = true;
+    private int deltaMargin = 200;
+    private boolean seePruning = true;
+    private boolean principalVariationSearch = true;
+    private int aspirationWindow = 50;
+    private int nullMoveReduction = 2;
+    private int lateMoveReduction = 1;
+    private int lateMoveThreshold = 3;
+    private int futilityDepth = 2;
+
+    public Builder setQuiescence(final boolean quiescence) {
+      this.quiescence = quiescence;
+      return this;
+    }
+
+    public Builder setDeltaMargin(final int deltaMargin) {
+      this.deltaMargin = deltaMargin;
+      return this;
+    }
+
+    public Builder setSeePruning(final boolean seePruning) {
+      this.seePruning = seePruning;
+      return this;
+    }
+
+    public Builder setPrincipalVariationSearch(final boolean principalVariationSearch) {
+      this.principalVariationSearch = principalVariationSearch;
+      return this;
+    }
+
+    public Builder setAspirationWindow(final int aspirationWindow) {
+      this.aspirationWindow = aspirationWindow;
+      return this;
+    }
+
+    public Builder setNullMoveReduction(final int nullMoveReduction) {
+      this.nullMoveReduction = nullMoveReduction;
+      return this;
+    }
+
+    public Builder setLateMoveReduction(final int lateMoveReduction) {
+      this.lateMoveReduction = lateMoveReduction;
+      return this;
+    }
+
+    public Builder setLateMoveThreshold(final int lateMoveThreshold) {
+      this.lateMoveThreshold = lateMoveThreshold;
+      return this;
+    }
+
+    public Builder setFutilityDepth(final int futilityDepth) {
+      this.futilityDepth = futilityDepth;
+      return this;
+    }
+
+    public SearchParameters build() {
+      return new SearchParameters(this);
+    }
+  }
+}
@@ -0,0 +1,290 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.PackedMove;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+Counters for one search, filled in by the searching thread. The counters are plain fields
+bumped straight from the search loops; read them through the getters from a SearchListener
+callback or once execute has returned.
+ */
+public class SearchStats {
+  long nodes;
+  long leafEvaluations;
+  long illegalMoves;
+  long cutoffs;
+  long hashHits;
+  long quiescenceNodes;
+  long deltaPrunes;
+  long seePrunes;
+  long researches;
+  long aspirationFailures;
+  long nullMoveCutoffs;
+  long lateMoveReductions;
+  long lateMoveResearches;
+  long futilityPrunes;
+  long reverseFutilityPrunes;
+
+  private final long startTime;
+  private final List<DepthStats> depthStats;
+  private long elapsedMillis = -1;
+
+  public SearchStats() {
+    this.startTime = System.currentTimeMillis();
+    this.depthStats = new ArrayList<>();
+  }
+
+  // Positions visited, root moves included
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  public long getLeafEvaluations() {
+    return this.leafEvaluations;
+  }
+
+  // Pseudo-legal moves that turned out to leave the king in check
+  public long getIllegalMoves() {
+    return this.illegalMoves;
+  }
+
+  public long getCutoffs() {
+    return this.cutoffs;
+  }
+
+  // Transposition table entries deep enough to use
+  public long getHashHits() {
+    return this.hashHits;
+  }
+
+  // Nodes past the horizon, also counted in getNodes
+  public long getQuiescenceNodes() {
+    return this.quiescenceNodes;
+  }
+
+  // Captures skipped in quiescence because even winning the piece could not raise alpha
+  public long getDeltaPrunes() {
+    return this.deltaPrunes;
+  }
+
+  // Captures skipped in quiescence because static exchange evaluation says they lose material
+  public long getSeePrunes() {
+    return this.seePrunes;
+  }
+
+  // Null-window scouts that failed high and had to be searched again with the full window
+  public long getResearches() {
+    return this.researches;
+  }
+
+  // Root searches whose score fell outside the aspiration window
+  public long getAspirationFailures() {
+    return this.aspirationFailures;
+  }
+
+  // Nodes cut because passing the turn still failed high
+  public long getNullMoveCutoffs() {
+    return this.nullMoveCutoffs;
+  }
+
+  // Quiet late moves searched at reduced depth, and those that beat alpha and were searched again
+  public long getLateMoveReductions() {
+    return this.lateMoveReductions;
+  }
+
+  public long getLateMoveResearches() {
+    return this.lateMoveResearches;
+  }
+
+  // Quiet moves skipped at frontier nodes too far below alpha
+  public long getFutilityPrunes() {
+    return this.futilityPrunes;
+  }
+
+  // Frontier nodes returned on the static score because it was already far above beta
+  public long getReverseFutilityPrunes() {
+    return this.reverseFutilityPrunes;
+  }
+
+  public long getElapsedMillis() {
+    return this.elapsedMillis >= 0
+        ? this.elapsedMillis
+        : System.currentTimeMillis() - this.startTime;
+  }
+
+  public long getNodesPerSecond() {
+    return nodesPerSecond(this.nodes, getElapsedMillis());
+  }
+
+  // One entry per completed depth, shallowest first
+  public List<DepthStats> getDepthStats() {
+    return Collections.unmodifiableList(this.depthStats);
+  }
+
+  void add(final SearchStats other) {
+    this.nodes += other.nodes;
+    this.leafEvaluations += other.leafEvaluations;
+    this.illegalMoves += other.illegalMoves;
+    this.cutoffs += other.cutoffs;
+    this.hashHits += other.hashHits;
+    this.quiescenceNodes += other.quiescenceNodes;
+    this.deltaPrunes += other.deltaPrunes;
+    this.seePrunes += other.seePrunes;
+    this.researches += other.researches;
+    this.aspirationFailures += other.aspirationFailures;
+    this.nullMoveCutoffs += other.nullMoveCutoffs;
+    this.lateMoveReductions += other.lateMoveReductions;
+    this.lateMoveResearches += other.lateMoveResearches;
+    this.futilityPrunes += other.futilityPrunes;
+    this.reverseFutilityPrunes += other.reverseFutilityPrunes;
+  }
+
+  void depthCompleted(final int depth, final int score, final int[] principalVariation) {
+    long previousNodes = 0;
+    long previousMillis = 0;
+    if (!this.depthStats.isEmpty()) {
+      final DepthStats previous = this.depthStats.get(this.depthStats.size() - 1);
+      previousNodes = previous.totalNodes;
+      previousMillis = previous.totalMillis;
+    }
+    final long totalMillis = getElapsedMillis();
+    this.depthStats.add(
+        new DepthStats(
+            depth,
+            score,
+            principalVariation.clone(),
+            this.nodes - previousNodes,
+            totalMillis - previousMillis,
+            this.nodes,
+            totalMillis));
+  }
+
+  void searchCompleted() {
+    this.elapsedMillis = System.currentTimeMillis() - this.startTime;
+  }
+
+  @Override
+  public String toString() {
+    return "nodes "
+        + this.nodes
+        + ", leaves "
+        + this.leafEvaluations
+        + ", illegal "
+        + this.illegalMoves
+        + ", cutoffs "
+        + this.cutoffs
+        + ", hash hits "
+        + this.hashHits
+        + ", quiescence "
+        + this.quiescenceNodes
+        + ", delta prunes "
+        + this.deltaPrunes
+        + ", SEE prunes "
+        + this.seePrunes
+        + ", re-searches "
+        + this.researches
+        + ", aspiration fails "
+        + this.aspirationFailures
+        + ", null-move cuts "
+        + this.nullMoveCutoffs
+        + ", reductions "
+        + this.lateMoveReductions
+        + " ("
+        + this.lateMoveResearches
+        + " re-searched), futility prunes "
+        + this.futilityPrunes
+        + ", reverse futility prunes "
+        + this.reverseFutilityPrunes
+        + ", "
+        + getElapsedMillis()
+        + " ms, "
+        + getNodesPerSecond()
+        + " nodes/s";
+  }
+
+  private static long nodesPerSecond(final long nodes, final long millis) {
+    return nodes * 1000 / Math.max(millis, 1);
+  }
+
+  public static final class DepthStats {
+    private final int depth;
+    private final int score;
+    private final int[] principalVariation;
+    private final long nodes;
+    private final long millis;
+    private final long totalNodes;
+    private final long totalMillis;
+
+    private DepthStats(
+        final int depth,
+        final int score,
+        final int[] principalVariation,
+        final long nodes,
+        final long millis,
+        final long totalNodes,
+        final long totalMillis) {
+      this.depth = depth;
+      this.score = score;
+      this.principalVariation = principalVariation;
+      this.nodes = nodes;
+      this.millis = millis;
+      this.totalNodes = totalNodes;
+      this.totalMillis = totalMillis;
+    }
+
+    public int getDepth() {
+      return this.depth;
+    }
+
+    public int getBestMove() {
+      return this.principalVariation.length > 0 ? this.principalVariation[0] : PackedMove.NO_MOVE;
+    }
+
+    // For the side to move at the root
+    public int getScore() {
+      return this.score;
+    }
+
+    // The line both sides are expected to play, best move first
+    public int[] getPrincipalVariation() {
+      return this.principalVariation.clone();
+    }
+
+    // Nodes and time spent on this depth alone
+    public long getNodes() {
+      return this.nodes;
+    }
+
+    public long getMillis() {
+      return this.millis;
+    }
+
+    public long getNodesPerSecond() {
+      return nodesPerSecond(this.nodes, this.millis);
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder line = new StringBuilder();
+      for (final int move : this.principalVariation) {
+        line.append(' ').append(PackedMove.toString(move));
+      }
+      return "depth "
+          + this.depth
+          + " score "
+          + this.score
+          + " pv"
+          + line
+          + ": "
+          + this.nodes
+          + " nodes in "
+          + this.millis
+          + " ms, "
+          + getNodesPerSecond()
+          + " nodes/s";
+    }
+  }
+}
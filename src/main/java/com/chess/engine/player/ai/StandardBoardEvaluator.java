@@ -1,7 +1,9 @@
 package com.chess.engine.player.ai;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
-import com.chess.engine.pieces.Piece;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.GameStatus;
 import com.chess.engine.player.Player;
 
 public final class StandardBoardEvaluator implements BoardEvaluator {
@@ -10,21 +12,79 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
   private static final int CHECK_MATE_BONUS = 10000;
   private static final int DEPTH_BONUS = 100;
   private static final int CASTLE_BONUS = 60;
+  // Material only changes through captures. A quiet move gains at most 55 piece-square points (a
+  // knight out of the corner), 50 for check, or 60 plus the king's 30 for castling: 140 when
+  // castling gives check, leaving 60 for the swing in mobility
+  private static final int FUTILITY_MARGIN = 200;
 
   @Override
   public int evaluate(Board board, int depth) {
+    if (isDrawn(board)) {
+      return 0;
+    }
+    return board.getMaterial()
+        + board.getPieceSquareScore()
+        + scorePlayer(board.whitePlayer(), depth)
+        - scorePlayer(board.blackPlayer(), depth);
+  }
+
+  @Override
+  public int evaluate(final SearchBoard board, final int depth) {
+    // Stalemate at a leaf would need a full move generation; only a position in check pays for one
+    final GameStatus gameStatus =
+        board.hasInsufficientMaterial()
+            ? GameStatus.DRAW
+            : board.isInCheckMate() ? GameStatus.CHECKMATE : GameStatus.ONGOING;
+    return evaluate(board, depth, gameStatus);
+  }
+
+  @Override
+  public int evaluate(final SearchBoard board, final int depth, final GameStatus gameStatus) {
+    if (isDrawn(gameStatus)) {
+      return 0;
+    }
+    final boolean checkmate = gameStatus == GameStatus.CHECKMATE;
+    return board.getMaterial()
+        + board.getPieceSquareScore()
+        + scoreSide(board, Alliance.WHITE, Alliance.BLACK, depth, checkmate)
+        - scoreSide(board, Alliance.BLACK, Alliance.WHITE, depth, checkmate);
+  }
+
+  @Override
+  public int getFutilityMargin(final int depth) {
+    return FUTILITY_MARGIN * depth;
+  }
+
+  // Only a side in check or without moves pays for the escape-move search behind getGameStatus()
+  private static boolean isDrawn(final Board board) {
+    final Player player = board.currentPlayer();
+    if (player.isInCheck() || player.getLegalMoves().isEmpty()) {
+      return isDrawn(board.getGameStatus());
+    }
+    return board.hasInsufficientMaterial();
+  }
 
-    return scorePlayer(board, board.whitePlayer(), depth)
-        - scorePlayer(board, board.blackPlayer(), depth);
+  private static boolean isDrawn(final GameStatus gameStatus) {
+    return gameStatus == GameStatus.STALEMATE || gameStatus == GameStatus.DRAW;
   }
 
-  private int scorePlayer(Board board, Player player, int depth) {
-    return pieceValue(player)
-        + mobility(player)
-        + check(player)
-        + checkmate(player, depth)
-        + castled(player);
-    // + checkmate, check, castled, mobility
+  // Material and piece-square terms come from the board, which keeps them up to date per move
+  private int scorePlayer(Player player, int depth) {
+    return mobility(player) + check(player) + checkmate(player, depth) + castled(player);
+  }
+
+  private int scoreSide(
+      final SearchBoard board,
+      final Alliance alliance,
+      final Alliance opponent,
+      final int depth,
+      final boolean checkmate) {
+    return board.mobility(alliance)
+        + (board.isInCheck(opponent) ? CHECK_BONUS : 0)
+        + (checkmate && board.getSideToMove() == opponent
+            ? CHECK_MATE_BONUS * depthBonus(depth)
+            : 0)
+        + (board.isCastled(alliance) ? CASTLE_BONUS : 0);
   }
 
   private static int castled(Player player) {
@@ -46,12 +106,4 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
   private static int mobility(Player player) {
     return player.getLegalMoves().size();
   }
-
-  private static int pieceValue(final Player player) {
-    int pieceValueScore = 0;
-    for (final Piece piece : player.getActivePieces()) {
-      pieceValueScore += piece.getPieceValue();
-    }
-    return pieceValueScore;
-  }
 }
@@ -0,0 +1,131 @@
+package com.chess.engine.player.ai;
+
+import java.util.Arrays;
+
+/*
+Fixed-size hash of searched positions, shared by any number of search threads without locks.
+Each slot is two longs: the Zobrist key XOR-ed with the data, then the data. A reader only
+trusts a slot when key ^ data gives back its own key, so a slot torn by two threads writing at
+once just reads as a miss. Data packs the best move, score, depth, bound type and the search
+generation ("age") into one long, so probing allocates nothing.
+Slots are grouped in buckets of four (one 64 byte cache line). A new position takes an empty
+slot or its own old slot; otherwise it evicts the entry from the oldest search with the
+smallest depth.
+ */
+public final class TranspositionTable {
+  public static final long NO_ENTRY = 0L;
+
+  // Non-zero so that a stored entry is never mistaken for an empty slot
+  public static final int EXACT = 1;
+  public static final int LOWER_BOUND = 2;
+  public static final int UPPER_BOUND = 3;
+
+  public static final int DEFAULT_SIZE_IN_MB = 16;
+
+  private static final int BUCKET_SIZE = 4;
+  private static final int LONGS_PER_SLOT = 2;
+  private static final int BYTES_PER_SLOT = LONGS_PER_SLOT * 8;
+  private static final int AGE_MASK = 0x3F;
+
+  private final long[] slots;
+  private final int bucketMask;
+  private volatile int age;
+
+  public TranspositionTable(final int sizeInMegabytes) {
+    if (sizeInMegabytes < 1) {
+      throw new RuntimeException("Transposition table needs at least 1 MB");
+    }
+    final long buckets = (long) sizeInMegabytes * 1024 * 1024 / (BYTES_PER_SLOT * BUCKET_SIZE);
+    final int numBuckets = Integer.highestOneBit((int) Math.min(buckets, 1 << 26));
+    this.slots = new long[numBuckets * BUCKET_SIZE * LONGS_PER_SLOT];
+    this.bucketMask = numBuckets - 1;
+  }
+
+  public TranspositionTable() {
+    this(DEFAULT_SIZE_IN_MB);
+  }
+
+  // Entries stored from now on belong to a new search and outrank older ones
+  public void newSearch() {
+    this.age = (this.age + 1) & AGE_MASK;
+  }
+
+  public void clear() {
+    Arrays.fill(this.slots, 0L);
+  }
+
+  public int getCapacity() {
+    return this.slots.length / LONGS_PER_SLOT;
+  }
+
+  // Packed entry for the key, or NO_ENTRY; decode it with the static getters
+  public long probe(final long key) {
+    final int bucket = bucketIndex(key);
+    for (int i = bucket; i < bucket + BUCKET_SIZE * LONGS_PER_SLOT; i += LONGS_PER_SLOT) {
+      final long data = this.slots[i + 1];
+      if (data != NO_ENTRY && (this.slots[i] ^ data) == key) {
+        return data;
+      }
+    }
+    return NO_ENTRY;
+  }
+
+  public void store(
+      final long key, final int move, final int score, final int depth, final int bound) {
+    final int currentAge = this.age;
+    final int bucket = bucketIndex(key);
+    int target = bucket;
+    int lowestWorth = Integer.MAX_VALUE;
+    for (int i = bucket; i < bucket + BUCKET_SIZE * LONGS_PER_SLOT; i += LONGS_PER_SLOT) {
+      final long data = this.slots[i + 1];
+      if (data == NO_ENTRY || (this.slots[i] ^ data) == key) {
+        target = i;
+        break;
+      }
+      // each search of staleness costs an entry as much as a large depth difference
+      final int staleness = (currentAge - getAge(data)) & AGE_MASK;
+      final int worth = getDepth(data) - 16 * staleness;
+      if (worth < lowestWorth) {
+        lowestWorth = worth;
+        target = i;
+      }
+    }
+    final long data = pack(move, score, depth, bound, currentAge);
+    this.slots[target] = key ^ data;
+    this.slots[target + 1] = data;
+  }
+
+  public static int getMove(final long entry) {
+    return (int) (entry & 0xFFFF);
+  }
+
+  public static int getScore(final long entry) {
+    return (int) (entry >> 32);
+  }
+
+  public static int getDepth(final long entry) {
+    return (int) ((entry >>> 16) & 0xFF);
+  }
+
+  public static int getBound(final long entry) {
+    return (int) ((entry >>> 24) & 0x3);
+  }
+
+  private static int getAge(final long entry) {
+    return (int) ((entry >>> 26) & AGE_MASK);
+  }
+
+  // bits 0-15 move, 16-23 depth, 24-25 bound, 26-31 age, 32-63 score
+  private static long pack(
+      final int move, final int score, final int depth, final int bound, final int age) {
+    return (move & 0xFFFFL)
+        | ((long) Math.min(depth, 0xFF) << 16)
+        | ((long) bound << 24)
+        | ((long) age << 26)
+        | ((long) score << 32);
+  }
+
+  private int bucketIndex(final long key) {
+    return ((int) (key ^ (key >>> 32)) & this.bucketMask) * BUCKET_SIZE * LONGS_PER_SLOT;
+  }
+}
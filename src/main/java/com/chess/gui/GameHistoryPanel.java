@@ -2,6 +2,7 @@ package com.chess.gui;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
+import com.chess.engine.player.GameStatus;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -55,7 +56,7 @@ public class GameHistoryPanel extends JPanel {
   }
 
   private String calculateCheckAndCheckMateHash(Board board) {
-    if (board.currentPlayer().isInCheckMate()) {
+    if (board.getGameStatus() == GameStatus.CHECKMATE) {
       return "#";
     } else if (board.currentPlayer().isInCheck()) {
       return "+";
@@ -14,6 +14,8 @@ class GameSetup extends JDialog {
   private PlayerType whitePlayerType;
   private PlayerType blackPlayerType;
   private JSpinner searchDepthSpinner;
+  private JSpinner moveTimeSpinner;
+  private JSpinner searchThreadsSpinner;
 
   private static final String HUMAN_TEXT = "Human";
   private static final String COMPUTER_TEXT = "Computer";
@@ -48,6 +50,14 @@ class GameSetup extends JDialog {
     this.searchDepthSpinner =
         addLabeledSpinner(
             myPanel, "Search Depth", new SpinnerNumberModel(6, 0, Integer.MAX_VALUE, 1));
+    this.moveTimeSpinner =
+        addLabeledSpinner(
+            myPanel, "Seconds Per Move", new SpinnerNumberModel(5, 1, Integer.MAX_VALUE, 1));
+    this.searchThreadsSpinner =
+        addLabeledSpinner(
+            myPanel,
+            "Search Threads",
+            new SpinnerNumberModel(Runtime.getRuntime().availableProcessors(), 1, 256, 1));
 
     final JButton cancelButton = new JButton("Cancel");
     final JButton okButton = new JButton("OK");
@@ -127,4 +137,12 @@ class GameSetup extends JDialog {
   int getSearchDepth() {
     return (Integer) this.searchDepthSpinner.getValue();
   }
+
+  int getMoveTimeSeconds() {
+    return (Integer) this.moveTimeSpinner.getValue();
+  }
+
+  int getSearchThreads() {
+    return (Integer) this.searchThreadsSpinner.getValue();
+  }
 }
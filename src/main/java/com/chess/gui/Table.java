@@ -5,10 +5,14 @@ import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.GameStatus;
 import com.chess.engine.player.MoveTransition;
-import com.chess.engine.player.ai.Minimax;
+import com.chess.engine.player.ai.IterativeDeepening;
 import com.chess.engine.player.ai.MoveStrategy;
+import com.chess.engine.player.ai.SearchListener;
+import com.chess.engine.player.ai.SearchStats;
 import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.engine.player.ai.TranspositionTable;
 import com.google.common.collect.Lists;
 
 import javax.imageio.ImageIO;
@@ -53,6 +57,7 @@ public class Table extends Observable {
   private Move computerMove;
 
   private final MoveLog moveLog;
+  private final TranspositionTable transpositionTable;
 
   private Table() {
     this.gameFrame = new JFrame("JChess");
@@ -63,6 +68,7 @@ public class Table extends Observable {
     takenPiecesPanel = new TakenPiecesPanel();
     this.boardPanel = new BoardPanel();
     this.moveLog = new MoveLog();
+    this.transpositionTable = new TranspositionTable();
     this.gameSetup = new GameSetup(this.gameFrame, true);
     this.boardDirection = BoardDirection.NORMAL;
     this.highlightLegalMoves = true;
@@ -206,21 +212,24 @@ public class Table extends Observable {
   private static class TableGameAIWatcher implements Observer {
     @Override
     public void update(Observable o, Object arg) {
-      if (Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().currentPlayer())
-          && !Table.get().getGameBoard().currentPlayer().isInCheckMate()
-          && !Table.get().getGameBoard().currentPlayer().isInStaleMate()) {
+      final Board board = Table.get().getGameBoard();
+      final GameStatus gameStatus = board.getGameStatus();
+      if (Table.get().getGameSetup().isAIPlayer(board.currentPlayer())
+          && !gameStatus.isGameOver()) {
         final AIThinkTank thinkTank = new AIThinkTank();
         thinkTank.execute();
       }
 
-      if (Table.get().getGameBoard().currentPlayer().isInCheckMate()) {
-        System.out.println(
-            "Game Over, " + Table.get().getGameBoard().currentPlayer() + " is in checkmate");
+      if (gameStatus == GameStatus.CHECKMATE) {
+        System.out.println("Game Over, " + board.currentPlayer() + " is in checkmate");
       }
 
-      if (Table.get().getGameBoard().currentPlayer().isInStaleMate()) {
-        System.out.println(
-            "Game Over, " + Table.get().getGameBoard().currentPlayer() + " is in stalemate");
+      if (gameStatus == GameStatus.STALEMATE) {
+        System.out.println("Game Over, " + board.currentPlayer() + " is in stalemate");
+      }
+
+      if (gameStatus == GameStatus.DRAW) {
+        System.out.println("Game Over, draw by insufficient material");
       }
     }
   }
@@ -252,10 +261,37 @@ public class Table extends Observable {
 
     @Override
     protected Move doInBackground() throws Exception {
-      final MoveStrategy miniMax = new Minimax(4);
-      final Move bestMove = miniMax.execute(Table.get().getGameBoard());
+      final GameSetup gameSetup = Table.get().gameSetup;
+      final MoveStrategy iterativeDeepening =
+          new IterativeDeepening(
+              gameSetup.getSearchDepth(),
+              gameSetup.getMoveTimeSeconds() * 1000L,
+              Table.get().getTranspositionTable(),
+              gameSetup.getSearchThreads());
+      iterativeDeepening.setSearchListener(
+          new SearchListener() {
+            @Override
+            public void depthCompleted(final SearchStats stats) {
+              final List<SearchStats.DepthStats> depths = stats.getDepthStats();
+              publish(depths.get(depths.size() - 1).toString());
+            }
+
+            @Override
+            public void searchCompleted(final SearchStats stats) {
+              publish(stats.toString());
+            }
+          });
+      final Move bestMove = iterativeDeepening.execute(Table.get().getGameBoard());
       return bestMove;
     }
+
+    // Search progress is logged on the event thread rather than the searching one
+    @Override
+    protected void process(final List<String> searchReports) {
+      for (final String searchReport : searchReports) {
+        System.out.println(searchReport);
+      }
+    }
   }
 
   private void moveMadeUpdate(final PlayerType playerType) {}
@@ -272,6 +308,10 @@ public class Table extends Observable {
     return this.gameHistoryPanel;
   }
 
+  private TranspositionTable getTranspositionTable() {
+    return this.transpositionTable;
+  }
+
   private MoveLog getMoveLog() {
     return this.moveLog;
   }
@@ -1,5 +1,8 @@
 package com.chess.engine.board;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.*;
+import com.chess.engine.player.GameStatus;
 import com.chess.engine.player.MoveTransition;
 import com.chess.engine.player.ai.Minimax;
 import com.chess.engine.player.ai.MoveStrategy;
@@ -62,6 +65,129 @@ public class BoardTest {
   //    public void testBoardConsistency() {}
   //
 
+  @Test
+  public void bitBoardViews() {
+    final Board board = Board.createStandardBoard();
+    assertEquals(Long.bitCount(board.getOccupancy()), 32);
+    assertEquals(board.getWhitePieces().size(), 16);
+    assertEquals(board.getBlackPieces().size(), 16);
+    assertEquals(
+        board.getPieceBitBoard(Piece.PieceType.PAWN, Alliance.WHITE), 0x00FF000000000000L);
+    assertEquals(board.getPieceBitBoard(Piece.PieceType.KING, Alliance.BLACK), 1L << 4);
+    for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+      final Tile tile = board.getTile(i);
+      assertEquals(tile.isTileOccupied(), BitBoardUtils.isSet(board.getOccupancy(), i));
+      assertEquals(tile.getPiece(), board.getPiece(i));
+    }
+    for (final Piece piece : board.getWhitePieces()) {
+      assertTrue(piece.getPieceAlliance().isWhite());
+      assertEquals(board.getTile(piece.getPiecePosition()).getPiece(), piece);
+    }
+  }
+
+  @Test
+  public void slidingMovesStayOnBoard() {
+    final Board.Builder builder = new Board.Builder();
+    builder.setPiece(new King(Alliance.BLACK, 0, false, false));
+    builder.setPiece(new King(Alliance.WHITE, 63, false, false));
+    builder.setPiece(new Rook(BoardUtils.getCoordinateAtPosition("h4"), Alliance.WHITE));
+    builder.setPiece(new Bishop(BoardUtils.getCoordinateAtPosition("a5"), Alliance.WHITE));
+    builder.setPiece(new Queen(BoardUtils.getCoordinateAtPosition("d4"), Alliance.WHITE));
+    builder.setPiece(new Pawn(BoardUtils.getCoordinateAtPosition("d6"), Alliance.BLACK));
+    builder.setMoveMaker(Alliance.WHITE);
+    final Board board = builder.build();
+
+    final Piece rook = board.getPiece(BoardUtils.getCoordinateAtPosition("h4"));
+    final Piece bishop = board.getPiece(BoardUtils.getCoordinateAtPosition("a5"));
+    final Piece queen = board.getPiece(BoardUtils.getCoordinateAtPosition("d4"));
+    // h-file rook stops at e4 and h2, a-file bishop must not wrap to the h-file
+    assertEquals(rook.calculateLegalMoves(board).size(), 9);
+    assertEquals(bishop.calculateLegalMoves(board).size(), 7);
+    // queen: 5 on the file including the d6 capture, 6 on the rank, 13 on the diagonals
+    assertEquals(queen.calculateLegalMoves(board).size(), 24);
+    for (final Move move : queen.calculateLegalMoves(board)) {
+      assertEquals(
+          move.isAttack(),
+          move.getDestinationCoordinate() == BoardUtils.getCoordinateAtPosition("d6"));
+    }
+  }
+
+  @Test
+  public void squareAttacks() {
+    final Board board = FenUtilities.createGameFromFEN("4k3/8/8/3q4/2N5/8/8/R3K3 w Q - 0 1");
+    assertTrue(board.isSquareAttacked(BoardUtils.getCoordinateAtPosition("e3"), Alliance.WHITE));
+    assertTrue(board.isSquareAttacked(BoardUtils.getCoordinateAtPosition("c4"), Alliance.BLACK));
+    assertTrue(board.isSquareAttacked(BoardUtils.getCoordinateAtPosition("d1"), Alliance.BLACK));
+    // the knight on c4 shields b3 from the queen
+    assertFalse(board.isSquareAttacked(BoardUtils.getCoordinateAtPosition("b3"), Alliance.BLACK));
+    assertFalse(board.isSquareAttacked(BoardUtils.getCoordinateAtPosition("a6"), Alliance.BLACK));
+    assertFalse(board.currentPlayer().isInCheck());
+    // the king would cross the attacked d1, so there is no queen-side castle
+    for (final Move move : board.currentPlayer().getLegalMoves()) {
+      assertFalse(move.isCastlingMove());
+    }
+  }
+
+  @Test
+  public void castlingFollowsRights() {
+    final Board board = FenUtilities.createGameFromFEN("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1");
+    int castles = 0;
+    for (final Move move : board.currentPlayer().getLegalMoves()) {
+      if (move.isCastlingMove()) {
+        assertTrue(move instanceof Move.KingSideCastleMove);
+        castles++;
+      }
+    }
+    assertEquals(castles, 1);
+    // moving the king-side rook away and back loses the right for good
+    Board after = board;
+    for (final String uci : new String[] {"h1h2", "a8b8", "h2h1", "b8a8"}) {
+      final Move move =
+          Move.MoveFactory.createMove(
+              after,
+              BoardUtils.getCoordinateAtPosition(uci.substring(0, 2)),
+              BoardUtils.getCoordinateAtPosition(uci.substring(2, 4)));
+      after = after.currentPlayer().makeMove(move).getTransitionBoard();
+    }
+    assertEquals(after.getCastlingRights(), 0);
+    for (final Move move : after.currentPlayer().getLegalMoves()) {
+      assertFalse(move.isCastlingMove());
+    }
+  }
+
+  @Test
+  public void gameStatus() {
+    assertEquals(Board.createStandardBoard().getGameStatus(), GameStatus.ONGOING);
+    final Board mate = FenUtilities.createGameFromFEN("7k/6Q1/6K1/8/8/8/8/8 b - - 0 1");
+    assertEquals(mate.getGameStatus(), GameStatus.CHECKMATE);
+    assertTrue(mate.currentPlayer().isInCheckMate());
+    assertFalse(mate.currentPlayer().getOpponent().isInCheckMate());
+    final Board stalemate = FenUtilities.createGameFromFEN("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+    assertEquals(stalemate.getGameStatus(), GameStatus.STALEMATE);
+    assertTrue(stalemate.currentPlayer().isInStaleMate());
+    assertEquals(
+        FenUtilities.createGameFromFEN("7k/8/6K1/8/8/2N5/8/8 b - - 0 1").getGameStatus(),
+        GameStatus.DRAW);
+    assertEquals(
+        FenUtilities.createGameFromFEN("7k/8/6K1/8/8/2N5/7P/8 b - - 0 1").getGameStatus(),
+        GameStatus.ONGOING);
+  }
+
+  @Test
+  public void sharedPiecesAndTiles() {
+    final Board board = Board.createStandardBoard();
+    final int e2 = BoardUtils.getCoordinateAtPosition("e2");
+    final int e4 = BoardUtils.getCoordinateAtPosition("e4");
+    assertSame(board.getPiece(e2), PieceCache.get(Piece.PieceType.PAWN, Alliance.WHITE, e2, true));
+    final Board after =
+        board
+            .currentPlayer()
+            .makeMove(Move.MoveFactory.createMove(board, e2, e4))
+            .getTransitionBoard();
+    assertSame(after.getPiece(e4), PieceCache.get(Piece.PieceType.PAWN, Alliance.WHITE, e4, false));
+    assertSame(after.getTile(e4), after.getTile(e4));
+  }
+
   @Test
   public void mem() {
     final Runtime runtime = Runtime.getRuntime();
@@ -0,0 +1,75 @@
+package com.chess.engine.board;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+// Reference counts from https://www.chessprogramming.org/Perft_Results
+public class PerftTest {
+  private static final String KIWIPETE =
+      "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+  private static final String ROOK_ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+  @Test
+  public void initialPosition() {
+    final Board board = Board.createStandardBoard();
+    assertEquals(Perft.perft(board, 1), 20);
+    assertEquals(Perft.perft(board, 2), 400);
+    assertEquals(Perft.perft(board, 3), 8902);
+    assertEquals(Perft.perft(board, 4), 197281);
+  }
+
+  @Test
+  public void kiwipete() {
+    final Board board = FenUtilities.createGameFromFEN(KIWIPETE);
+    assertEquals(Perft.perft(board, 1), 48);
+    assertEquals(Perft.perft(board, 2), 2039);
+    assertEquals(Perft.perft(board, 3), 97862);
+  }
+
+  @Test
+  public void rookEndgame() {
+    final Board board = FenUtilities.createGameFromFEN(ROOK_ENDGAME);
+    assertEquals(Perft.perft(board, 1), 14);
+    assertEquals(Perft.perft(board, 2), 191);
+    assertEquals(Perft.perft(board, 3), 2812);
+    assertEquals(Perft.perft(board, 4), 43238);
+  }
+
+  @Test
+  public void divideSumsToPerft() {
+    final Board board = FenUtilities.createGameFromFEN(KIWIPETE);
+    final Map<String, Long> divide = Perft.divide(board, 2);
+    assertEquals(divide.size(), 48);
+    assertEquals(divide.get("e1g1"), Long.valueOf(43));
+    long nodes = 0;
+    for (final long count : divide.values()) {
+      nodes += count;
+    }
+    assertEquals(nodes, 2039);
+  }
+
+  @Test
+  public void hashedParallelPerftMatches() {
+    assertEquals(Perft.perft(Board.createStandardBoard(), 4, 4, 1), 197281);
+    assertEquals(Perft.perft(FenUtilities.createGameFromFEN(ROOK_ENDGAME), 5, 4, 1), 674624);
+  }
+
+  @Test
+  public void reusedPoolAndTableMatch() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Perft.PerftTable table = new Perft.PerftTable(1);
+      final Board board = FenUtilities.createGameFromFEN(KIWIPETE);
+      assertEquals(Perft.perft(board, 3, pool, table), 97862);
+      assertEquals(Perft.perft(board, 3, pool, table), 97862);
+      table.clear();
+      assertEquals(Perft.perft(Board.createStandardBoard(), 4, pool, table), 197281);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
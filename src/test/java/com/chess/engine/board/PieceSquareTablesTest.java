@@ -0,0 +1,91 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.player.MoveTransition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PieceSquareTablesTest {
+
+  @Test
+  public void startingPositionIsBalanced() {
+    final Board board = Board.createStandardBoard();
+    assertEquals(board.getMaterial(), 0);
+    assertEquals(board.getPieceSquareScore(), 0);
+    final SearchBoard searchBoard = new SearchBoard(board);
+    assertEquals(searchBoard.getMaterial(), 0);
+    assertEquals(searchBoard.getPieceSquareScore(), 0);
+  }
+
+  @Test
+  public void incrementalScoresMatchRecomputedScores() {
+    final Random random = new Random(42);
+    for (int game = 0; game < 20; game++) {
+      Board board = Board.createStandardBoard();
+      SearchBoard searchBoard = new SearchBoard(board);
+      for (int ply = 0; ply < 120; ply++) {
+        final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+        MoveTransition transition = null;
+        while (!moves.isEmpty()) {
+          transition = board.currentPlayer().makeMove(moves.remove(random.nextInt(moves.size())));
+          if (transition.getMoveStatus().isDone()) break;
+        }
+        if (transition == null || !transition.getMoveStatus().isDone()) break;
+
+        final Move move = transition.getMove();
+        board = transition.getTransitionBoard();
+        assertEquals(board.getScore(), recomputedScore(board));
+
+        final int packedMove = findPackedMove(searchBoard, move);
+        assertTrue(searchBoard.makeMove(packedMove));
+        assertEquals(searchBoard.getMaterial(), board.getMaterial());
+        assertEquals(searchBoard.getPieceSquareScore(), board.getPieceSquareScore());
+      }
+    }
+  }
+
+  @Test
+  public void promotionAndCastlingKeepScoresInStep() {
+    final Board board = FenUtilities.createGameFromFEN("4k3/1P6/8/8/8/8/8/4K2R w K - 0 1");
+    for (final String[] squares : new String[][] {{"b7", "b8"}, {"e1", "g1"}}) {
+      final Move move =
+          Move.MoveFactory.createMove(
+              board,
+              BoardUtils.getCoordinateAtPosition(squares[0]),
+              BoardUtils.getCoordinateAtPosition(squares[1]));
+      final Board after = board.currentPlayer().makeMove(move).getTransitionBoard();
+      assertEquals(after.getScore(), recomputedScore(after));
+      final SearchBoard searchBoard = new SearchBoard(board);
+      assertTrue(searchBoard.makeMove(findPackedMove(searchBoard, move)));
+      assertEquals(searchBoard.getMaterial(), after.getMaterial());
+      assertEquals(searchBoard.getPieceSquareScore(), after.getPieceSquareScore());
+    }
+  }
+
+  private static BoardScore recomputedScore(final Board board) {
+    final List<Piece> pieces = new ArrayList<>(board.getWhitePieces());
+    pieces.addAll(board.getBlackPieces());
+    return BoardScore.compute(pieces.toArray(new Piece[0]));
+  }
+
+  // Board moves always promote to a queen
+  private static int findPackedMove(final SearchBoard searchBoard, final Move move) {
+    final int[] moves = new int[SearchBoard.MAX_MOVES];
+    final int numMoves = searchBoard.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      if (PackedMove.getSource(moves[i]) == move.getCurrentCoordinate()
+          && PackedMove.getDestination(moves[i]) == move.getDestinationCoordinate()
+          && (!PackedMove.isPromotion(moves[i])
+              || PackedMove.getPromotionType(moves[i]) == PieceType.QUEEN)) {
+        return moves[i];
+      }
+    }
+    return PackedMove.NO_MOVE;
+  }
+}
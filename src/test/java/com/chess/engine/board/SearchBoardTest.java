@@ -0,0 +1,131 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.King;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Rook;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SearchBoardTest {
+
+  @Test
+  public void initialPosition() {
+    final SearchBoard board = new SearchBoard(Board.createStandardBoard());
+    assertEquals(board.getSideToMove(), Alliance.WHITE);
+    assertEquals(board.getCastlingRights(), 15);
+    assertEquals(board.mobility(Alliance.WHITE), 20);
+    assertEquals(board.mobility(Alliance.BLACK), 20);
+    assertFalse(board.isInCheck());
+    assertEquals(perft(board, 1), 20);
+    assertEquals(perft(board, 2), 400);
+    assertEquals(perft(board, 3), 8902);
+    assertEquals(perft(board, 4), 197281);
+  }
+
+  @Test
+  public void castlingPosition() {
+    final Board.Builder builder = new Board.Builder();
+    builder.setPiece(new Rook(0, Alliance.BLACK));
+    builder.setPiece(new King(Alliance.BLACK, 4, true, true));
+    builder.setPiece(new Rook(7, Alliance.BLACK));
+    builder.setPiece(new Rook(56, Alliance.WHITE));
+    builder.setPiece(new King(Alliance.WHITE, 60, true, true));
+    builder.setPiece(new Rook(63, Alliance.WHITE));
+    builder.setMoveMaker(Alliance.WHITE);
+    final SearchBoard board = new SearchBoard(builder.build());
+    assertEquals(perft(board, 1), 26);
+    assertEquals(perft(board, 2), 568);
+    assertEquals(perft(board, 3), 13744);
+  }
+
+  @Test
+  public void unmakeRestoresPosition() {
+    final SearchBoard board = new SearchBoard(Board.createStandardBoard());
+    final long[] before = snapshot(board);
+    perft(board, 3);
+    assertArrayEquals(snapshot(board), before);
+    assertEquals(board.getPly(), 0);
+  }
+
+  @Test
+  public void nullMovePassesTheTurn() {
+    // Black has just played d7-d5, so white could take en passant
+    final Board board =
+        FenUtilities.createGameFromFEN(
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3");
+    final Board passed = new Move.NullMove(board).execute();
+    assertEquals(passed.currentPlayer().getAlliance(), Alliance.BLACK);
+    assertNull(passed.getEnPassantPawn());
+    assertEquals(passed.getCastlingRights(), board.getCastlingRights());
+    assertEquals(passed.getZobristKey(), Zobrist.computeKey(passed));
+
+    final SearchBoard searchBoard = new SearchBoard(board);
+    final int enPassantSquare = searchBoard.getEnPassantSquare();
+    assertNotEquals(enPassantSquare, SearchBoard.NO_SQUARE);
+    searchBoard.makeNullMove();
+    assertEquals(searchBoard.getSideToMove(), Alliance.BLACK);
+    assertEquals(searchBoard.getEnPassantSquare(), SearchBoard.NO_SQUARE);
+    assertEquals(searchBoard.getZobristKey(), passed.getZobristKey());
+    searchBoard.unmakeNullMove();
+    assertEquals(searchBoard.getSideToMove(), Alliance.WHITE);
+    assertEquals(searchBoard.getEnPassantSquare(), enPassantSquare);
+    assertEquals(searchBoard.getZobristKey(), board.getZobristKey());
+  }
+
+  @Test
+  public void tacticalMovesAreTheCapturesAndPromotions() {
+    // Kiwipete, plus a position with a pawn on the seventh
+    for (final String fen :
+        new String[] {
+          "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+          "4k3/1P6/8/8/8/8/6p1/4K2R b K - 0 1"
+        }) {
+      final SearchBoard board = new SearchBoard(FenUtilities.createGameFromFEN(fen));
+      final int[] moves = new int[SearchBoard.MAX_MOVES];
+      final int numMoves = board.generateMoves(moves);
+      int expected = 0;
+      for (int i = 0; i < numMoves; i++) {
+        if (PackedMove.isCapture(moves[i]) || PackedMove.isPromotion(moves[i])) {
+          expected++;
+        }
+      }
+      final int[] tacticalMoves = new int[SearchBoard.MAX_MOVES];
+      final int numTacticalMoves = board.generateTacticalMoves(tacticalMoves);
+      assertEquals(numTacticalMoves, expected);
+      for (int i = 0; i < numTacticalMoves; i++) {
+        assertTrue(
+            PackedMove.isCapture(tacticalMoves[i]) || PackedMove.isPromotion(tacticalMoves[i]));
+      }
+    }
+  }
+
+  private static long[] snapshot(final SearchBoard board) {
+    final long[] snapshot = new long[BitBoardUtils.NUM_BITBOARDS + 3];
+    int i = 0;
+    for (final Piece.PieceType pieceType : Piece.PieceType.values()) {
+      for (final Alliance alliance : Alliance.values()) {
+        snapshot[i++] = board.getPieceBitBoard(pieceType, alliance);
+      }
+    }
+    snapshot[i++] = board.getCastlingRights();
+    snapshot[i++] = board.getEnPassantSquare();
+    snapshot[i] = board.getSideToMove().ordinal();
+    return snapshot;
+  }
+
+  private static long perft(final SearchBoard board, final int depth) {
+    if (depth == 0) return 1;
+    final int[] moves = new int[SearchBoard.MAX_MOVES];
+    final int numMoves = board.generateMoves(moves);
+    long nodes = 0;
+    for (int i = 0; i < numMoves; i++) {
+      if (board.makeMove(moves[i])) {
+        nodes += perft(board, depth - 1);
+        board.unmakeMove(moves[i]);
+      }
+    }
+    return nodes;
+  }
+}
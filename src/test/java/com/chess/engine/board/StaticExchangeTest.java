@@ -0,0 +1,72 @@
+package com.chess.engine.board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StaticExchangeTest {
+
+  @Test
+  public void queenTakingADefendedPawnLosesTheQueen() {
+    final Board board = FenUtilities.createGameFromFEN("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1");
+    final Move move = move(board, "d1", "d5");
+    assertEquals(move.staticExchange(), 100 - 900);
+    assertEquals(new SearchBoard(board).staticExchange(packed(board, "d1", "d5")), 100 - 900);
+  }
+
+  @Test
+  public void undefendedPieceIsWonOutright() {
+    final Board board = FenUtilities.createGameFromFEN("4k3/8/8/3r4/4P3/8/8/4K3 w - - 0 1");
+    assertEquals(move(board, "e4", "d5").staticExchange(), 500);
+  }
+
+  @Test
+  public void slidersBehindTheCapturerJoinIn() {
+    // Doubled rooks on both sides: whoever starts the trade on d5 comes out a rook down
+    final Board board = FenUtilities.createGameFromFEN("3rk3/3r4/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+    assertEquals(move(board, "d2", "d5").staticExchange(), 100 - 500);
+    final int d5 = BoardUtils.getCoordinateAtPosition("d5");
+    assertEquals(Long.bitCount(board.getAttackers(d5)), 2);
+  }
+
+  @Test
+  public void kingOnlyTakesUndefendedPieces() {
+    final Board alone = FenUtilities.createGameFromFEN("4k3/3p4/8/8/8/8/3R4/4K3 w - - 0 1");
+    assertEquals(move(alone, "d2", "d7").staticExchange(), 100 - 500);
+    final Board doubled = FenUtilities.createGameFromFEN("4k3/3p4/8/8/8/8/3R4/3RK3 w - - 0 1");
+    assertEquals(move(doubled, "d2", "d7").staticExchange(), 100);
+  }
+
+  @Test
+  public void enPassantAndQuietMoves() {
+    final Board board =
+        FenUtilities.createGameFromFEN(
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3");
+    // exd6 is recaptured by either black pawn
+    assertEquals(move(board, "e5", "d6").staticExchange(), 0);
+    // Qg4 puts the queen where the c8 bishop takes it for nothing
+    assertEquals(move(board, "d1", "g4").staticExchange(), -900);
+    assertEquals(move(board, "g1", "f3").staticExchange(), 0);
+  }
+
+  private static Move move(final Board board, final String source, final String destination) {
+    return Move.MoveFactory.createMove(
+        board,
+        BoardUtils.getCoordinateAtPosition(source),
+        BoardUtils.getCoordinateAtPosition(destination));
+  }
+
+  private static int packed(final Board board, final String source, final String destination) {
+    final SearchBoard searchBoard = new SearchBoard(board);
+    final int[] moves = new int[SearchBoard.MAX_MOVES];
+    final int numMoves = searchBoard.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      if (PackedMove.getSource(moves[i]) == BoardUtils.getCoordinateAtPosition(source)
+          && PackedMove.getDestination(moves[i])
+              == BoardUtils.getCoordinateAtPosition(destination)) {
+        return moves[i];
+      }
+    }
+    return PackedMove.NO_MOVE;
+  }
+}
@@ -0,0 +1,78 @@
+package com.chess.engine.board;
+
+import com.chess.engine.player.MoveTransition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ZobristTest {
+
+  @Test
+  public void incrementalKeyMatchesRecomputedKey() {
+    final Random random = new Random(42);
+    for (int game = 0; game < 20; game++) {
+      Board board = Board.createStandardBoard();
+      SearchBoard searchBoard = new SearchBoard(board);
+      for (int ply = 0; ply < 80; ply++) {
+        final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+        MoveTransition transition = null;
+        while (!moves.isEmpty()) {
+          transition = board.currentPlayer().makeMove(moves.remove(random.nextInt(moves.size())));
+          if (transition.getMoveStatus().isDone()) break;
+        }
+        if (transition == null || !transition.getMoveStatus().isDone()) break;
+
+        final Move move = transition.getMove();
+        board = transition.getTransitionBoard();
+        assertEquals(board.getZobristKey(), Zobrist.computeKey(board));
+
+        final int packedMove = findPackedMove(searchBoard, move);
+        if (packedMove != PackedMove.NO_MOVE && searchBoard.makeMove(packedMove)) {
+          assertEquals(searchBoard.getZobristKey(), board.getZobristKey());
+        } else {
+          searchBoard = new SearchBoard(board);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void transpositionsShareAKey() {
+    final Board viaKnightFirst =
+        play(Board.createStandardBoard(), "g1", "f3", "g8", "f6", "b1", "c3");
+    final Board viaOtherKnight =
+        play(Board.createStandardBoard(), "b1", "c3", "g8", "f6", "g1", "f3");
+    assertEquals(viaKnightFirst.getZobristKey(), viaOtherKnight.getZobristKey());
+    assertEquals(viaKnightFirst, viaOtherKnight);
+    assertEquals(viaKnightFirst.hashCode(), viaOtherKnight.hashCode());
+    assertNotEquals(viaKnightFirst, Board.createStandardBoard());
+  }
+
+  private static Board play(Board board, final String... squares) {
+    for (int i = 0; i < squares.length; i += 2) {
+      final Move move =
+          Move.MoveFactory.createMove(
+              board,
+              BoardUtils.getCoordinateAtPosition(squares[i]),
+              BoardUtils.getCoordinateAtPosition(squares[i + 1]));
+      board = board.currentPlayer().makeMove(move).getTransitionBoard();
+    }
+    return board;
+  }
+
+  private static int findPackedMove(final SearchBoard searchBoard, final Move move) {
+    final int[] moves = new int[SearchBoard.MAX_MOVES];
+    final int numMoves = searchBoard.generateMoves(moves);
+    for (int i = 0; i < numMoves; i++) {
+      if (PackedMove.getSource(moves[i]) == move.getCurrentCoordinate()
+          && PackedMove.getDestination(moves[i]) == move.getDestinationCoordinate()) {
+        return moves[i];
+      }
+    }
+    return PackedMove.NO_MOVE;
+  }
+}
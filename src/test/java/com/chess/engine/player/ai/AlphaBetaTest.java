@@ -0,0 +1,108 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.MoveTransition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AlphaBetaTest {
+
+  @Test
+  public void picksTheSameMoveAsMinimax() {
+    final Random random = new Random(7);
+    Board board = Board.createStandardBoard();
+    for (int ply = 0; ply < 12; ply++) {
+      for (int depth = 1; depth <= 3; depth++) {
+        assertEquals(
+            new AlphaBeta(depth, null, SearchParameters.FULL_WIDTH).execute(board),
+            new Minimax(depth).execute(board));
+      }
+      board = randomSuccessor(board, random);
+    }
+  }
+
+  @Test
+  public void principalVariationSearchPicksTheSameMove() {
+    final SearchParameters pvs =
+        new SearchParameters.Builder()
+            .setQuiescence(false)
+            .setNullMoveReduction(0)
+            .setLateMoveReduction(0)
+            .setFutilityDepth(0)
+            .build();
+    final Random random = new Random(13);
+    Board board = Board.createStandardBoard();
+    for (int ply = 0; ply < 12; ply++) {
+      for (int depth = 1; depth <= 4; depth++) {
+        final AlphaBeta alphaBeta = new AlphaBeta(depth, null, pvs);
+        assertEquals(
+            alphaBeta.execute(board),
+            new AlphaBeta(depth, null, SearchParameters.FULL_WIDTH).execute(board));
+        assertEquals(alphaBeta.getPrincipalVariation().size(), depth);
+      }
+      board = randomSuccessor(board, random);
+    }
+  }
+
+  @Test
+  public void parallelSearchPicksTheSameMove() {
+    final Random random = new Random(11);
+    Board board = Board.createStandardBoard();
+    for (int ply = 0; ply < 12; ply++) {
+      for (int depth = 1; depth <= 4; depth++) {
+        assertEquals(
+            new ParallelAlphaBeta(depth, SearchParameters.FULL_WIDTH).execute(board),
+            new AlphaBeta(depth, null, SearchParameters.FULL_WIDTH).execute(board));
+      }
+      board = randomSuccessor(board, random);
+    }
+  }
+
+  @Test
+  public void findsMateInOne() {
+    // 1. f3 e5 2. g4, black mates with Qh4
+    Board board = play(Board.createStandardBoard(), 53, 45);
+    board = play(board, 12, 28);
+    board = play(board, 54, 38);
+    final Move move = new AlphaBeta(2).execute(board);
+    assertTrue(
+        board.currentPlayer().makeMove(move).getTransitionBoard().currentPlayer().isInCheckMate());
+  }
+
+  @Test
+  public void quiescenceSeesTheRecapture() {
+    // Qxd5 wins a pawn at depth 1 unless the search looks past cxd5
+    final Board board = FenUtilities.createGameFromFEN("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1");
+    final int d1 = BoardUtils.getCoordinateAtPosition("d1");
+    final int d5 = BoardUtils.getCoordinateAtPosition("d5");
+    final Move greedy = Move.MoveFactory.createMove(board, d1, d5);
+    assertEquals(new AlphaBeta(1, null, SearchParameters.FULL_WIDTH).execute(board), greedy);
+    final AlphaBeta alphaBeta = new AlphaBeta(1);
+    assertNotEquals(alphaBeta.execute(board), greedy);
+    assertTrue(alphaBeta.getSearchStats().getQuiescenceNodes() > 0);
+  }
+
+  private static Board play(final Board board, final int source, final int destination) {
+    return board
+        .currentPlayer()
+        .makeMove(Move.MoveFactory.createMove(board, source, destination))
+        .getTransitionBoard();
+  }
+
+  private static Board randomSuccessor(final Board board, final Random random) {
+    final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+    while (true) {
+      final MoveTransition transition =
+          board.currentPlayer().makeMove(moves.remove(random.nextInt(moves.size())));
+      if (transition.getMoveStatus().isDone()) return transition.getTransitionBoard();
+    }
+  }
+}
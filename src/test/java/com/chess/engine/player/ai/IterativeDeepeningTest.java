@@ -0,0 +1,149 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.Move;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class IterativeDeepeningTest {
+
+  @Test
+  public void stopsWithinTheTimeBudget() {
+    final Board board = Board.createStandardBoard();
+    final long startTime = System.currentTimeMillis();
+    final Move move = new IterativeDeepening(30, 200).execute(board);
+    assertTrue(System.currentTimeMillis() - startTime < 2000);
+    assertTrue(board.currentPlayer().makeMove(move).getMoveStatus().isDone());
+  }
+
+  @Test
+  public void lazySmpStopsWithinTheTimeBudget() {
+    final Board board = Board.createStandardBoard();
+    final long startTime = System.currentTimeMillis();
+    final Move move = new IterativeDeepening(30, 200, new TranspositionTable(4), 4).execute(board);
+    assertTrue(System.currentTimeMillis() - startTime < 2000);
+    assertTrue(board.currentPlayer().makeMove(move).getMoveStatus().isDone());
+  }
+
+  @Test
+  public void reportsStatisticsForEveryDepth() {
+    final MoveStrategy strategy = new IterativeDeepening(4, 60000);
+    final List<Integer> completedDepths = new ArrayList<>();
+    final SearchStats[] finalStats = new SearchStats[1];
+    strategy.setSearchListener(
+        new SearchListener() {
+          @Override
+          public void depthCompleted(final SearchStats stats) {
+            final List<SearchStats.DepthStats> depths = stats.getDepthStats();
+            completedDepths.add(depths.get(depths.size() - 1).getDepth());
+          }
+
+          @Override
+          public void searchCompleted(final SearchStats stats) {
+            finalStats[0] = stats;
+          }
+        });
+    strategy.execute(Board.createStandardBoard());
+
+    assertEquals(completedDepths, Arrays.asList(1, 2, 3, 4));
+    final SearchStats stats = strategy.getSearchStats();
+    assertSame(finalStats[0], stats);
+    long depthNodes = 0;
+    for (final SearchStats.DepthStats depth : stats.getDepthStats()) {
+      depthNodes += depth.getNodes();
+    }
+    assertEquals(depthNodes, stats.getNodes());
+    assertTrue(stats.getLeafEvaluations() > 0);
+    assertTrue(stats.getCutoffs() > 0);
+    assertTrue(stats.getHashHits() > 0);
+  }
+
+  @Test
+  public void principalVariationStartsWithTheBestMove() {
+    final Board board = Board.createStandardBoard();
+    final MoveStrategy strategy = new IterativeDeepening(4, 60000);
+    final Move move = strategy.execute(board);
+    final List<Move> principalVariation = strategy.getPrincipalVariation();
+    assertFalse(principalVariation.isEmpty());
+    assertEquals(principalVariation.get(0), move);
+    final List<SearchStats.DepthStats> depths = strategy.getSearchStats().getDepthStats();
+    final SearchStats.DepthStats deepest = depths.get(depths.size() - 1);
+    assertEquals(deepest.getPrincipalVariation().length, principalVariation.size());
+    assertTrue(deepest.toString().contains(" pv "));
+  }
+
+  @Test
+  public void nullMovePruningCutsNodes() {
+    // Italian game, a quiet position where passing rarely loses anything
+    final Board board =
+        FenUtilities.createGameFromFEN(
+            "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4");
+    final SearchParameters withoutNullMove =
+        new SearchParameters.Builder().setNullMoveReduction(0).build();
+    final MoveStrategy pruned =
+        new IterativeDeepening(5, 60000, new TranspositionTable(1), 1, SearchParameters.DEFAULT);
+    final MoveStrategy unpruned =
+        new IterativeDeepening(5, 60000, new TranspositionTable(1), 1, withoutNullMove);
+    final Move move = pruned.execute(board);
+    unpruned.execute(board);
+    assertTrue(board.currentPlayer().makeMove(move).getMoveStatus().isDone());
+    assertTrue(pruned.getSearchStats().getNullMoveCutoffs() > 0);
+    assertEquals(unpruned.getSearchStats().getNullMoveCutoffs(), 0L);
+    assertTrue(pruned.getSearchStats().getNodes() < unpruned.getSearchStats().getNodes());
+  }
+
+  @Test
+  public void reductionsAndFutilityPruningCutNodes() {
+    final Board board =
+        FenUtilities.createGameFromFEN(
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+    final SearchParameters unselective =
+        new SearchParameters.Builder().setLateMoveReduction(0).setFutilityDepth(0).build();
+    final MoveStrategy pruned =
+        new IterativeDeepening(5, 60000, new TranspositionTable(1), 1, SearchParameters.DEFAULT);
+    final MoveStrategy unpruned =
+        new IterativeDeepening(5, 60000, new TranspositionTable(1), 1, unselective);
+    final Move move = pruned.execute(board);
+    unpruned.execute(board);
+    assertTrue(board.currentPlayer().makeMove(move).getMoveStatus().isDone());
+    final SearchStats stats = pruned.getSearchStats();
+    assertTrue(stats.getLateMoveReductions() > 0);
+    assertTrue(stats.getFutilityPrunes() > 0);
+    assertTrue(stats.getReverseFutilityPrunes() > 0);
+    assertEquals(unpruned.getSearchStats().getLateMoveReductions(), 0L);
+    assertEquals(unpruned.getSearchStats().getFutilityPrunes(), 0L);
+    assertTrue(stats.getNodes() < unpruned.getSearchStats().getNodes());
+  }
+
+  @Test
+  public void findsMateInOne() {
+    // 1. f3 e5 2. g4, black mates with Qh4
+    Board board = play(Board.createStandardBoard(), 53, 45);
+    board = play(board, 12, 28);
+    board = play(board, 54, 38);
+    for (int numThreads = 1; numThreads <= 4; numThreads++) {
+      final Move move =
+          new IterativeDeepening(3, 10000, new TranspositionTable(1), numThreads).execute(board);
+      assertTrue(
+          board
+              .currentPlayer()
+              .makeMove(move)
+              .getTransitionBoard()
+              .currentPlayer()
+              .isInCheckMate());
+    }
+  }
+
+  private static Board play(final Board board, final int source, final int destination) {
+    return board
+        .currentPlayer()
+        .makeMove(Move.MoveFactory.createMove(board, source, destination))
+        .getTransitionBoard();
+  }
+}
@@ -0,0 +1,99 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MoveOrderingTest {
+
+  private static final String START_FEN =
+      "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+  @Test
+  public void hashMoveComesFirst() {
+    final SearchBoard board = searchBoard(START_FEN);
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    final int hashMove = find(moves, numMoves, "g1", "f3");
+    new MoveOrdering().orderMoves(board, moves, numMoves, hashMove, 0);
+    assertEquals(moves[0], hashMove);
+  }
+
+  @Test
+  public void capturesFollowMostValuableVictimLeastValuableAttacker() {
+    final SearchBoard board = searchBoard("4k3/8/8/3q4/p1P5/8/8/3QK3 w - - 0 1");
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    final int pawnTakesQueen = find(moves, numMoves, "c4", "d5");
+    final int queenTakesQueen = find(moves, numMoves, "d1", "d5");
+    final int queenTakesPawn = find(moves, numMoves, "d1", "a4");
+    new MoveOrdering().orderMoves(board, moves, numMoves, PackedMove.NO_MOVE, 0);
+    assertEquals(moves[0], pawnTakesQueen);
+    assertEquals(moves[1], queenTakesQueen);
+    assertEquals(moves[2], queenTakesPawn);
+  }
+
+  @Test
+  public void killersRankAboveOtherQuietMoves() {
+    final MoveOrdering moveOrdering = new MoveOrdering();
+    final SearchBoard board = searchBoard(START_FEN);
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    final int historyMove = find(moves, numMoves, "e2", "e4");
+    final int killer = find(moves, numMoves, "b1", "c3");
+    // A deep cutoff elsewhere in the tree builds history but is no killer at ply 0
+    moveOrdering.recordCutoff(historyMove, 5, 10);
+    moveOrdering.recordCutoff(killer, 0, 1);
+    moveOrdering.orderMoves(board, moves, numMoves, PackedMove.NO_MOVE, 0);
+    assertEquals(moves[0], killer);
+    assertEquals(moves[1], historyMove);
+  }
+
+  @Test
+  public void historyReordersQuietMoves() {
+    final MoveOrdering moveOrdering = new MoveOrdering();
+    final SearchBoard board = searchBoard(START_FEN);
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    final int quietMove = find(moves, numMoves, "h2", "h3");
+    moveOrdering.orderMoves(board, moves, numMoves, PackedMove.NO_MOVE, 0);
+    assertNotEquals(moves[0], quietMove);
+    moveOrdering.recordCutoff(quietMove, 5, 3);
+    moveOrdering.orderMoves(board, moves, numMoves, PackedMove.NO_MOVE, 0);
+    assertEquals(moves[0], quietMove);
+  }
+
+  @Test
+  public void losingCapturesSortAfterQuietMoves() {
+    final SearchBoard board = searchBoard("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1");
+    final int[] moves = board.getMoveList();
+    final int numMoves = board.generateMoves(moves);
+    final int losingCapture = find(moves, numMoves, "d1", "d5");
+    assertTrue(MoveOrdering.isLosingCapture(board, losingCapture));
+    new MoveOrdering().orderMoves(board, moves, numMoves, PackedMove.NO_MOVE, 0);
+    assertEquals(moves[numMoves - 1], losingCapture);
+    for (int i = 0; i < numMoves - 1; i++) {
+      assertFalse(MoveOrdering.isTactical(moves[i]));
+    }
+  }
+
+  private static SearchBoard searchBoard(final String fen) {
+    return new SearchBoard(FenUtilities.createGameFromFEN(fen));
+  }
+
+  private static int find(
+      final int[] moves, final int numMoves, final String source, final String destination) {
+    for (int i = 0; i < numMoves; i++) {
+      if (PackedMove.getSource(moves[i]) == BoardUtils.getCoordinateAtPosition(source)
+          && PackedMove.getDestination(moves[i])
+              == BoardUtils.getCoordinateAtPosition(destination)) {
+        return moves[i];
+      }
+    }
+    throw new RuntimeException("No move from " + source + " to " + destination);
+  }
+}
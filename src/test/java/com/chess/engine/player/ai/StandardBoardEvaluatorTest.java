@@ -0,0 +1,30 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.GameStatus;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StandardBoardEvaluatorTest {
+
+  @Test
+  public void bothEvaluatorsScoreInsufficientMaterialAsADraw() {
+    final Board board = FenUtilities.createGameFromFEN("8/8/4k3/8/2K5/3B4/8/8 w - - 0 1");
+    final SearchBoard searchBoard = new SearchBoard(board);
+    final StandardBoardEvaluator evaluator = new StandardBoardEvaluator();
+    assertEquals(board.getGameStatus(), GameStatus.DRAW);
+    assertTrue(searchBoard.hasInsufficientMaterial());
+    assertEquals(evaluator.evaluate(board, 0), 0);
+    assertEquals(evaluator.evaluate(searchBoard, 0), 0);
+  }
+
+  @Test
+  public void aMinorPieceEachIsNotInsufficientMaterial() {
+    final Board board = FenUtilities.createGameFromFEN("8/8/4k3/4n3/2K5/3B4/8/8 w - - 0 1");
+    assertFalse(board.hasInsufficientMaterial());
+    assertFalse(new SearchBoard(board).hasInsufficientMaterial());
+  }
+}
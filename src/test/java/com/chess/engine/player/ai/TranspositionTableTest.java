@@ -0,0 +1,55 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.PackedMove;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+  @Test
+  public void storedEntryRoundTrips() {
+    final TranspositionTable table = new TranspositionTable(1);
+    final int move = PackedMove.create(52, 36, PackedMove.DOUBLE_PAWN_PUSH);
+    table.store(0x123456789ABCDEFL, move, -4321, 7, TranspositionTable.LOWER_BOUND);
+    final long entry = table.probe(0x123456789ABCDEFL);
+    assertEquals(TranspositionTable.getMove(entry), move);
+    assertEquals(TranspositionTable.getScore(entry), -4321);
+    assertEquals(TranspositionTable.getDepth(entry), 7);
+    assertEquals(TranspositionTable.getBound(entry), TranspositionTable.LOWER_BOUND);
+    assertEquals(table.probe(0x123456789ABCDEEL), TranspositionTable.NO_ENTRY);
+  }
+
+  @Test
+  public void replacementPrefersDeepAndRecentEntries() {
+    final TranspositionTable table = new TranspositionTable(1);
+    // keys of the form (x << 32) | x all land in the first bucket
+    for (long x = 1; x <= 4; x++) {
+      table.store(bucketZeroKey(x), PackedMove.NO_MOVE, 0, (int) x + 4, TranspositionTable.EXACT);
+    }
+    table.store(bucketZeroKey(5), PackedMove.NO_MOVE, 0, 1, TranspositionTable.EXACT);
+    assertEquals(table.probe(bucketZeroKey(1)), TranspositionTable.NO_ENTRY);
+    assertNotEquals(table.probe(bucketZeroKey(5)), TranspositionTable.NO_ENTRY);
+
+    table.newSearch();
+    table.store(bucketZeroKey(6), PackedMove.NO_MOVE, 0, 1, TranspositionTable.EXACT);
+    assertEquals(table.probe(bucketZeroKey(5)), TranspositionTable.NO_ENTRY);
+    for (long x = 2; x <= 4; x++) {
+      assertNotEquals(table.probe(bucketZeroKey(x)), TranspositionTable.NO_ENTRY);
+    }
+    assertNotEquals(table.probe(bucketZeroKey(6)), TranspositionTable.NO_ENTRY);
+  }
+
+  @Test
+  public void minimaxPicksTheSameMoveWithATable() {
+    final Board board = Board.createStandardBoard();
+    final Minimax plain = new Minimax(3);
+    final Minimax hashed = new Minimax(3, new TranspositionTable(1));
+    assertEquals(hashed.execute(board), plain.execute(board));
+  }
+
+  private static long bucketZeroKey(final long x) {
+    return (x << 32) | x;
+  }
+}